@@ -0,0 +1,136 @@
+package com.taskflow.project_service;
+
+import com.taskflow.project_service.dto.ProjectMemberResponseDTO;
+import com.taskflow.project_service.dto.ProjectResponseDTO;
+import com.taskflow.project_service.dto.UserResponse;
+import com.taskflow.project_service.dto.WorkFlowStatusResponseDTO;
+import com.taskflow.project_service.entities.Project;
+import com.taskflow.project_service.entities.ProjectMember;
+import com.taskflow.project_service.entities.WorkFlowStatus;
+import com.taskflow.project_service.enums.DefaultWorkflowStatus;
+import com.taskflow.project_service.enums.MemberStatus;
+import com.taskflow.project_service.enums.ProjectRole;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Realistic fixtures shared by the benchmarks: ids are random, strings have production-like lengths.
+ */
+public final class BenchmarkData {
+
+	private static final LocalDateTime CREATED_AT = LocalDateTime.of(2025, 3, 14, 9, 26, 53, 589_793_000);
+
+	private BenchmarkData() {
+	}
+
+	public static Project project(int i) {
+		return Project.builder()
+				.id(UUID.randomUUID())
+				.name("Customer onboarding portal " + i)
+				.projectKey("COP" + i)
+				.description("Self-service onboarding flow for enterprise customers, phase " + i)
+				.type("SCRUM")
+				.ownerId(UUID.randomUUID())
+				.createdAt(CREATED_AT.plusMinutes(i))
+				.build();
+	}
+
+	public static WorkFlowStatus status(Project project, DefaultWorkflowStatus status) {
+		return WorkFlowStatus.builder()
+				.id(UUID.randomUUID())
+				.statusName(status.getName())
+				.code(status.getCode())
+				.description("Issues that are " + status.getName().toLowerCase())
+				.orderIndex(status.getOrder())
+				.isFinal(status.isFinal())
+				.isActive(true)
+				.createdAt(CREATED_AT)
+				.project(project)
+				.build();
+	}
+
+	public static ProjectMember member(Project project, int i) {
+		return ProjectMember.builder()
+				.id(UUID.randomUUID())
+				.userId(UUID.randomUUID())
+				.project(project)
+				.role(i == 0 ? ProjectRole.OWNER : ProjectRole.MEMBER)
+				.status(MemberStatus.ACTIVE)
+				.joinedAt(CREATED_AT.plusHours(i))
+				.displayName("Alexandra Fitzgerald-Nakamura")
+				.email("alexandra.fitzgerald-nakamura@example.com")
+				.profileSyncedAt(CREATED_AT.plusHours(i))
+				.build();
+	}
+
+	public static UserResponse user(UUID id) {
+		return UserResponse.builder()
+				.id(id)
+				.name("Alexandra Fitzgerald-Nakamura")
+				.email("alexandra.fitzgerald-nakamura@example.com")
+				.department("Engineering")
+				.designation("Senior Software Engineer")
+				.isActive(true)
+				.build();
+	}
+
+	public static List<ProjectResponseDTO> projectDtos(int size) {
+		List<ProjectResponseDTO> dtos = new ArrayList<>(size);
+		for (int i = 0; i < size; i++) {
+			Project project = project(i);
+			dtos.add(ProjectResponseDTO.builder()
+					.id(project.getId())
+					.name(project.getName())
+					.projectKey(project.getProjectKey())
+					.description(project.getDescription())
+					.type(project.getType())
+					.ownerId(project.getOwnerId())
+					.createdAt(project.getCreatedAt())
+					.build());
+		}
+		return dtos;
+	}
+
+	public static List<ProjectMemberResponseDTO> memberDtos(int size) {
+		Project project = project(0);
+		List<ProjectMemberResponseDTO> dtos = new ArrayList<>(size);
+		for (int i = 0; i < size; i++) {
+			ProjectMember member = member(project, i);
+			UserResponse user = user(member.getUserId());
+			dtos.add(ProjectMemberResponseDTO.builder()
+					.id(member.getId())
+					.userId(member.getUserId())
+					.projectId(project.getId())
+					.role(member.getRole())
+					.status(member.getStatus())
+					.joinedAt(member.getJoinedAt())
+					.name(user.getName())
+					.email(user.getEmail())
+					.build());
+		}
+		return dtos;
+	}
+
+	public static List<WorkFlowStatusResponseDTO> statusDtos(int size) {
+		DefaultWorkflowStatus[] defaults = DefaultWorkflowStatus.values();
+		Project project = project(0);
+		List<WorkFlowStatusResponseDTO> dtos = new ArrayList<>(size);
+		for (int i = 0; i < size; i++) {
+			WorkFlowStatus status = status(project, defaults[i % defaults.length]);
+			dtos.add(WorkFlowStatusResponseDTO.builder()
+					.id(status.getId())
+					.statusName(status.getStatusName())
+					.code(status.getCode() + (i / defaults.length))
+					.description(status.getDescription())
+					.position(i)
+					.isFinal(status.getIsFinal())
+					.isActive(status.getIsActive())
+					.createdAt(status.getCreatedAt())
+					.build());
+		}
+		return dtos;
+	}
+}
@@ -0,0 +1,79 @@
+package com.taskflow.project_service.dto;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taskflow.project_service.BenchmarkData;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Jackson serialization of response lists at the sizes the endpoints return: a member list or
+ * a page of projects (size), and a project's workflow statuses (6 defaults up to a customized 24).
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class JsonSerializationBenchmark {
+
+	// Same defaults as the ObjectMapper Spring Boot configures for the controllers
+	private static final ObjectMapper OBJECT_MAPPER = Jackson2ObjectMapperBuilder.json().build();
+
+	@State(Scope.Benchmark)
+	public static class Lists {
+
+		@Param({"20", "50", "500"})
+		public int size;
+
+		private List<ProjectResponseDTO> projects;
+		private List<ProjectMemberResponseDTO> members;
+
+		@Setup
+		public void setUp() {
+			projects = BenchmarkData.projectDtos(size);
+			members = BenchmarkData.memberDtos(size);
+		}
+	}
+
+	@State(Scope.Benchmark)
+	public static class Statuses {
+
+		@Param({"6", "24"})
+		public int statusCount;
+
+		private List<WorkFlowStatusResponseDTO> statuses;
+
+		@Setup
+		public void setUp() {
+			statuses = BenchmarkData.statusDtos(statusCount);
+		}
+	}
+
+	@Benchmark
+	public byte[] projects(Lists lists) throws Exception {
+		return OBJECT_MAPPER.writeValueAsBytes(lists.projects);
+	}
+
+	@Benchmark
+	public byte[] members(Lists lists) throws Exception {
+		return OBJECT_MAPPER.writeValueAsBytes(lists.members);
+	}
+
+	@Benchmark
+	public byte[] statuses(Statuses statuses) throws Exception {
+		return OBJECT_MAPPER.writeValueAsBytes(statuses.statuses);
+	}
+}
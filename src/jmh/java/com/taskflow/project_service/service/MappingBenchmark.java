@@ -0,0 +1,74 @@
+package com.taskflow.project_service.service;
+
+import com.taskflow.project_service.BenchmarkData;
+import com.taskflow.project_service.dto.ProjectMemberResponseDTO;
+import com.taskflow.project_service.dto.ProjectResponseDTO;
+import com.taskflow.project_service.dto.WorkFlowStatusResponseDTO;
+import com.taskflow.project_service.entities.Project;
+import com.taskflow.project_service.entities.ProjectMember;
+import com.taskflow.project_service.entities.WorkFlowStatus;
+import com.taskflow.project_service.enums.DefaultWorkflowStatus;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Entity-to-DTO mapping in ProjectService and ProjectMemberService. Member names and emails come
+ * from the profile snapshot stored on the member row.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class MappingBenchmark {
+
+	private ProjectService projectService;
+	private Project project;
+	private WorkFlowStatus status;
+
+	@Setup
+	public void setUp() {
+		projectService = new ProjectService(null, null, null, null, null, null, null, null, null, null);
+		project = BenchmarkData.project(1);
+		status = BenchmarkData.status(project, DefaultWorkflowStatus.IN_PROGRESS);
+	}
+
+	@State(Scope.Benchmark)
+	public static class Members {
+
+		private ProjectMemberService projectMemberService;
+		private ProjectMember member;
+
+		@Setup
+		public void setUp() {
+			projectMemberService = new ProjectMemberService(null, null, null, null, null, null, null);
+			member = BenchmarkData.member(BenchmarkData.project(1), 1);
+		}
+	}
+
+	@Benchmark
+	public ProjectResponseDTO projectToResponse() {
+		return projectService.mapToResponseDTO(project);
+	}
+
+	@Benchmark
+	public WorkFlowStatusResponseDTO statusToResponse() {
+		return projectService.mapToStatusResponseDTO(status);
+	}
+
+	@Benchmark
+	public ProjectMemberResponseDTO memberToResponse(Members members) {
+		return members.projectMemberService.mapToResponseDTO(members.member);
+	}
+}
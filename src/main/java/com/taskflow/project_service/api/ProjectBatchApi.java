@@ -0,0 +1,19 @@
+package com.taskflow.project_service.api;
+
+import com.taskflow.project_service.dto.ProjectBatchRequestDTO;
+import com.taskflow.project_service.dto.ProjectBatchResponseDTO;
+import jakarta.validation.Valid;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+
+/**
+ * Batch lookup contract of the project service. {@code ProjectBatchController} implements it;
+ * other services can extend it with their own {@code @FeignClient(name = "project-service")}
+ * interface instead of looping over GET /api/projects/{id} and /{id}/statuses.
+ */
+public interface ProjectBatchApi {
+
+    /** Projects with their ordered workflow statuses, for up to 500 ids; unknown ids come back in notFound. */
+    @PostMapping("/api/projects/batch")
+    ProjectBatchResponseDTO getProjects(@Valid @RequestBody ProjectBatchRequestDTO request);
+}
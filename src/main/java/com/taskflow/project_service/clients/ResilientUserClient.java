@@ -0,0 +1,291 @@
+package com.taskflow.project_service.clients;
+
+import com.taskflow.project_service.config.FeignClientInterceptor;
+import com.taskflow.project_service.dto.UserResponse;
+import feign.FeignException;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.micrometer.tagged.TaggedBulkheadMetrics;
+import io.github.resilience4j.micrometer.tagged.TaggedCircuitBreakerMetrics;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.ValueAtPercentile;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * The {@link UserClient} the rest of the service sees: the Feign client behind a circuit breaker,
+ * a bulkhead and per-method timeouts, so a slow or failing ums-service costs callers at most
+ * {@code ums.resilience.timeout.*} and, once the breaker is open, nothing at all.
+ * <p>
+ * Each call runs on its own virtual thread; the caller stops waiting at the timeout while the
+ * request itself is bounded by the Feign read timeout. An abandoned request keeps its bulkhead
+ * permit until it really finishes, so at most {@code ums.resilience.bulkhead.max-concurrent-calls}
+ * requests are ever in flight to UMS. 4xx responses are answers, not failures: they pass through
+ * unchanged and do not count against the breaker.
+ * <p>
+ * With {@code ums.resilience.hedging.enabled}, the idempotent single-user reads
+ * ({@link #getUserById}, {@link #getUserByKeycloakId}) send a second request when the first has
+ * not answered within the recent p95 latency of that method and take whichever succeeds first.
+ * The load balancer hands out instances round-robin, so the hedge goes to another UMS instance
+ * when more than one is registered. Hedges are only sent while the breaker is closed and the
+ * bulkhead has a free permit.
+ * <p>
+ * Breaker and bulkhead state is published as {@code resilience4j.circuitbreaker.*} and
+ * {@code resilience4j.bulkhead.*}, latency per method as {@code ums.client.latency} and hedges
+ * sent as {@code ums.client.hedges}.
+ */
+@Component
+@Primary
+@Slf4j
+public class ResilientUserClient implements UserClient {
+
+    private static final String NAME = "ums-service";
+
+    private final UserClient delegate;
+    private final MeterRegistry meterRegistry;
+    private final CircuitBreaker circuitBreaker;
+    private final Bulkhead bulkhead;
+    private final Duration lookupTimeout;
+    private final Duration batchTimeout;
+    private final boolean hedgingEnabled;
+    private final Duration minHedgeDelay;
+    private final ExecutorService callExecutor = Executors.newThreadPerTaskExecutor(
+            Thread.ofVirtual().name("ums-call-", 0).factory());
+    private final Map<String, Timer> latencyByMethod = new ConcurrentHashMap<>();
+    private final Map<String, Counter> hedgesByMethod = new ConcurrentHashMap<>();
+
+    public ResilientUserClient(@Qualifier("umsFeignClient") UserClient delegate,
+                               MeterRegistry meterRegistry,
+                               @Value("${ums.resilience.timeout.lookup:2s}") Duration lookupTimeout,
+                               @Value("${ums.resilience.timeout.batch:5s}") Duration batchTimeout,
+                               @Value("${ums.resilience.bulkhead.max-concurrent-calls:32}") int maxConcurrentCalls,
+                               @Value("${ums.resilience.bulkhead.max-wait:100ms}") Duration maxWait,
+                               @Value("${ums.resilience.circuit-breaker.failure-rate-threshold:50}") float failureRateThreshold,
+                               @Value("${ums.resilience.circuit-breaker.slow-call-threshold:1s}") Duration slowCallThreshold,
+                               @Value("${ums.resilience.circuit-breaker.sliding-window-size:50}") int slidingWindowSize,
+                               @Value("${ums.resilience.circuit-breaker.minimum-calls:20}") int minimumCalls,
+                               @Value("${ums.resilience.circuit-breaker.wait-in-open:10s}") Duration waitInOpen,
+                               @Value("${ums.resilience.hedging.enabled:false}") boolean hedgingEnabled,
+                               @Value("${ums.resilience.hedging.min-delay:20ms}") Duration minHedgeDelay) {
+        this.delegate = delegate;
+        this.meterRegistry = meterRegistry;
+        this.lookupTimeout = lookupTimeout;
+        this.batchTimeout = batchTimeout;
+        this.hedgingEnabled = hedgingEnabled;
+        this.minHedgeDelay = minHedgeDelay;
+
+        CircuitBreakerRegistry circuitBreakers = CircuitBreakerRegistry.of(CircuitBreakerConfig.custom()
+                .failureRateThreshold(failureRateThreshold)
+                .slowCallDurationThreshold(slowCallThreshold)
+                .slidingWindowSize(slidingWindowSize)
+                .minimumNumberOfCalls(minimumCalls)
+                .waitDurationInOpenState(waitInOpen)
+                .automaticTransitionFromOpenToHalfOpenEnabled(true)
+                // A 4xx is UMS answering; a full bulkhead is our own limit, not UMS failing
+                .ignoreExceptions(FeignException.FeignClientException.class, BulkheadFullException.class)
+                .build());
+        BulkheadRegistry bulkheads = BulkheadRegistry.of(BulkheadConfig.custom()
+                .maxConcurrentCalls(maxConcurrentCalls)
+                .maxWaitDuration(maxWait)
+                .build());
+        this.circuitBreaker = circuitBreakers.circuitBreaker(NAME);
+        this.bulkhead = bulkheads.bulkhead(NAME);
+        TaggedCircuitBreakerMetrics.ofCircuitBreakerRegistry(circuitBreakers).bindTo(meterRegistry);
+        TaggedBulkheadMetrics.ofBulkheadRegistry(bulkheads).bindTo(meterRegistry);
+
+        circuitBreaker.getEventPublisher().onStateTransition(event ->
+                log.warn("UMS circuit breaker: {}", event.getStateTransition()));
+    }
+
+    @Override
+    public UserResponse getUserByEmail(String email) {
+        return call("getUserByEmail", lookupTimeout, false, () -> delegate.getUserByEmail(email));
+    }
+
+    @Override
+    public UserResponse getUserById(UUID id) {
+        return call("getUserById", lookupTimeout, hedgingEnabled, () -> delegate.getUserById(id));
+    }
+
+    @Override
+    public UserResponse getUserByKeycloakId(String keycloakId) {
+        return call("getUserByKeycloakId", lookupTimeout, hedgingEnabled, () -> delegate.getUserByKeycloakId(keycloakId));
+    }
+
+    @Override
+    public List<UserResponse> getUsersByIds(Collection<UUID> ids) {
+        return call("getUsersByIds", batchTimeout, false, () -> delegate.getUsersByIds(ids));
+    }
+
+    @Override
+    public List<UserResponse> getUsersByEmails(Collection<String> emails) {
+        return call("getUsersByEmails", batchTimeout, false, () -> delegate.getUsersByEmails(emails));
+    }
+
+    @PreDestroy
+    void shutdown() {
+        callExecutor.shutdownNow();
+    }
+
+    private <T> T call(String method, Duration timeout, boolean hedge, Supplier<T> request) {
+        circuitBreaker.acquirePermission(); // CallNotPermittedException while open
+        long start = System.nanoTime();
+        try {
+            T result = hedge ? callHedged(method, timeout, request) : await(attempt(method, request), method, start + timeout.toNanos());
+            circuitBreaker.onSuccess(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            return result;
+        } catch (RuntimeException e) {
+            circuitBreaker.onError(System.nanoTime() - start, TimeUnit.NANOSECONDS, e);
+            throw e;
+        }
+    }
+
+    private <T> T callHedged(String method, Duration timeout, Supplier<T> request) {
+        long deadline = System.nanoTime() + timeout.toNanos();
+        CompletableFuture<T> primary = attempt(method, request);
+        long hedgeAt = System.nanoTime() + hedgeDelay(method).toNanos();
+        if (hedgeAt >= deadline) {
+            return await(primary, method, deadline);
+        }
+        try {
+            return primary.get(hedgeAt - System.nanoTime(), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            // Slower than usual: hedge below
+        } catch (ExecutionException e) {
+            throw unwrap(e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while calling UMS " + method);
+        }
+
+        if (circuitBreaker.getState() != CircuitBreaker.State.CLOSED || !bulkhead.tryAcquirePermission()) {
+            return await(primary, method, deadline);
+        }
+        hedgesByMethod.computeIfAbsent(method, name -> Counter.builder("ums.client.hedges")
+                .description("Second requests sent because the first exceeded the p95 latency")
+                .tag("method", name)
+                .register(meterRegistry)).increment();
+        return await(firstSuccessful(primary, submit(method, request)), method, deadline);
+    }
+
+    // Starts one request; the bulkhead permit is held until the request itself completes
+    private <T> CompletableFuture<T> attempt(String method, Supplier<T> request) {
+        bulkhead.acquirePermission(); // BulkheadFullException after max-wait
+        return submit(method, request);
+    }
+
+    private <T> CompletableFuture<T> submit(String method, Supplier<T> request) {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        Runnable task = FeignClientInterceptor.withCurrentHeaders(() -> {
+            long start = System.nanoTime();
+            try {
+                T value = request.get();
+                latency(method).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                result.complete(value);
+            } catch (FeignException.FeignClientException e) {
+                latency(method).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                result.completeExceptionally(e);
+            } catch (Throwable e) {
+                result.completeExceptionally(e);
+            } finally {
+                bulkhead.onComplete();
+            }
+        });
+        try {
+            callExecutor.execute(task);
+        } catch (RuntimeException e) {
+            bulkhead.onComplete();
+            throw e;
+        }
+        return result;
+    }
+
+    private <T> T await(CompletableFuture<T> future, String method, long deadlineNanos) {
+        try {
+            return future.get(Math.max(0, deadlineNanos - System.nanoTime()), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            throw new RuntimeException("UMS " + method + " did not answer in time");
+        } catch (ExecutionException e) {
+            throw unwrap(e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while calling UMS " + method);
+        }
+    }
+
+    private Duration hedgeDelay(String method) {
+        for (ValueAtPercentile value : latency(method).takeSnapshot().percentileValues()) {
+            double p95 = value.value(TimeUnit.NANOSECONDS);
+            if (value.percentile() == 0.95 && p95 > minHedgeDelay.toNanos()) {
+                return Duration.ofNanos((long) p95);
+            }
+        }
+        return minHedgeDelay;
+    }
+
+    private Timer latency(String method) {
+        return latencyByMethod.computeIfAbsent(method, name -> Timer.builder("ums.client.latency")
+                .description("Latency of UMS requests that got a response")
+                .tag("method", name)
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry));
+    }
+
+    // Completes with the first successful result, or with the primary's error once both failed
+    private static <T> CompletableFuture<T> firstSuccessful(CompletableFuture<T> primary, CompletableFuture<T> hedge) {
+        CompletableFuture<T> winner = new CompletableFuture<>();
+        AtomicInteger failed = new AtomicInteger();
+        primary.whenComplete((value, error) -> {
+            if (error == null) {
+                winner.complete(value);
+            } else if (failed.incrementAndGet() == 2) {
+                winner.completeExceptionally(error);
+            }
+        });
+        hedge.whenComplete((value, error) -> {
+            if (error == null) {
+                winner.complete(value);
+            } else if (failed.incrementAndGet() == 2) {
+                primary.whenComplete((ignored, primaryError) -> winner.completeExceptionally(primaryError));
+            }
+        });
+        return winner;
+    }
+
+    private static RuntimeException unwrap(ExecutionException e) {
+        Throwable cause = e.getCause();
+        if (cause instanceof RuntimeException runtime) {
+            return runtime;
+        }
+        if (cause instanceof Error error) {
+            throw error;
+        }
+        return new RuntimeException(cause);
+    }
+}
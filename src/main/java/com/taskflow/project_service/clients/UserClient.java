@@ -3,10 +3,17 @@ package com.taskflow.project_service.clients;
 import com.taskflow.project_service.dto.UserResponse;
 import org.springframework.cloud.openfeign.FeignClient;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestParam;
 
-@FeignClient(name = "ums-service")  
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+// Not primary: callers get ResilientUserClient, which wraps this one
+@FeignClient(name = "ums-service", primary = false, qualifiers = "umsFeignClient")
 public interface UserClient {
 
     @GetMapping("/api/users/by-email")
@@ -17,4 +24,12 @@ public interface UserClient {
 
     @GetMapping("/api/users/by-keycloak-id/{keycloakId}")
     UserResponse getUserByKeycloakId(@org.springframework.web.bind.annotation.PathVariable("keycloakId") String keycloakId);
-}
\ No newline at end of file
+
+    // Bulk lookup: unknown ids are simply absent from the returned list
+    @PostMapping("/api/users/batch")
+    List<UserResponse> getUsersByIds(@RequestBody Collection<UUID> ids);
+
+    // Bulk lookup: unknown emails are simply absent from the returned list
+    @PostMapping("/api/users/batch/by-email")
+    List<UserResponse> getUsersByEmails(@RequestBody Collection<String> emails);
+}
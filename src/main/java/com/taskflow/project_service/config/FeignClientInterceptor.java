@@ -7,18 +7,28 @@ import org.springframework.stereotype.Component;
 import org.springframework.web.context.request.RequestContextHolder;
 import org.springframework.web.context.request.ServletRequestAttributes;
 
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
 @Component
 public class FeignClientInterceptor implements RequestInterceptor {
 
+    private static final List<String> FORWARDED_HEADERS = List.of("Authorization", "X-User-Id", "X-User-Email");
+
+    // Headers captured from a request thread for UMS calls made later on another thread (e.g. cache refresh)
+    private static final ThreadLocal<Map<String, String>> DETACHED_HEADERS = new ThreadLocal<>();
+
     @Override
     public void apply(RequestTemplate template) {
-        ServletRequestAttributes attributes = (ServletRequestAttributes) RequestContextHolder.getRequestAttributes();
-
-        if (attributes != null) {
-            HttpServletRequest request = attributes.getRequest();
+        Map<String, String> headers = DETACHED_HEADERS.get();
+        if (headers == null) {
+            headers = currentRequestHeaders();
+        }
 
+        if (headers != null) {
             // Forward Authorization header
-            String authHeader = request.getHeader("Authorization");
+            String authHeader = headers.get("Authorization");
             if (authHeader != null && !authHeader.isEmpty()) {
                 System.out.println("FeignClientInterceptor: Forwarding Authorization header: "
                         + authHeader.substring(0, Math.min(authHeader.length(), 20)) + "...");
@@ -28,16 +38,62 @@ public class FeignClientInterceptor implements RequestInterceptor {
             }
 
             // Forward X-User-Id header (optional, for additional context)
-            String userIdHeader = request.getHeader("X-User-Id");
+            String userIdHeader = headers.get("X-User-Id");
             if (userIdHeader != null && !userIdHeader.isEmpty()) {
                 template.header("X-User-Id", userIdHeader);
             }
 
             // Forward X-User-Email header (optional)
-            String userEmailHeader = request.getHeader("X-User-Email");
+            String userEmailHeader = headers.get("X-User-Email");
             if (userEmailHeader != null && !userEmailHeader.isEmpty()) {
                 template.header("X-User-Email", userEmailHeader);
             }
         }
     }
+
+    /**
+     * Wraps a task so that UMS calls made inside it forward the headers of the request
+     * that is current on the calling thread, even if that request has completed by then.
+     * Works from an already detached task too, so headers survive nested hand-offs.
+     */
+    public static Runnable withCurrentHeaders(Runnable task) {
+        Map<String, String> captured = DETACHED_HEADERS.get();
+        if (captured == null) {
+            captured = currentRequestHeaders();
+        }
+        if (captured == null) {
+            return task;
+        }
+        Map<String, String> headers = captured;
+        return () -> {
+            Map<String, String> previous = DETACHED_HEADERS.get();
+            DETACHED_HEADERS.set(headers);
+            try {
+                task.run();
+            } finally {
+                if (previous == null) {
+                    DETACHED_HEADERS.remove();
+                } else {
+                    DETACHED_HEADERS.set(previous);
+                }
+            }
+        };
+    }
+
+    private static Map<String, String> currentRequestHeaders() {
+        ServletRequestAttributes attributes = (ServletRequestAttributes) RequestContextHolder.getRequestAttributes();
+        if (attributes == null) {
+            return null;
+        }
+
+        HttpServletRequest request = attributes.getRequest();
+        Map<String, String> headers = new HashMap<>();
+        for (String name : FORWARDED_HEADERS) {
+            String value = request.getHeader(name);
+            if (value != null) {
+                headers.put(name, value);
+            }
+        }
+        return headers;
+    }
 }
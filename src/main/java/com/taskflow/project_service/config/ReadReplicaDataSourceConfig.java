@@ -0,0 +1,80 @@
+package com.taskflow.project_service.config;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Replaces the single Hikari pool with a primary and a replica pool behind a
+ * {@link ReadWriteRoutingDataSource} when {@code datasource.replica.url} is set.
+ * <p>
+ * The primary pool is configured from {@code spring.datasource.*} as before; the replica pool
+ * from {@code datasource.replica.url/username/password} (username and password default to the
+ * primary's) and {@code datasource.replica.hikari.*}. Both publish {@code hikaricp.*} metrics,
+ * tagged {@code pool=primary} and {@code pool=replica}.
+ */
+@Configuration
+@ConditionalOnProperty(name = "datasource.replica.url")
+public class ReadReplicaDataSourceConfig implements DisposableBean {
+
+    private final List<HikariDataSource> pools = new ArrayList<>();
+
+    @Bean
+    public DataSource dataSource(DataSourceProperties properties,
+                                 Environment environment,
+                                 MeterRegistry meterRegistry,
+                                 @Value("${datasource.replica.read-your-writes-window:2s}") Duration readYourWritesWindow) {
+        Binder binder = Binder.get(environment);
+
+        HikariConfig primary = binder.bind("spring.datasource.hikari", Bindable.ofInstance(new HikariConfig()))
+                .orElseGet(HikariConfig::new);
+        primary.setJdbcUrl(properties.determineUrl());
+        primary.setUsername(properties.determineUsername());
+        primary.setPassword(properties.determinePassword());
+        primary.setDriverClassName(properties.determineDriverClassName());
+
+        HikariConfig replica = binder.bind("datasource.replica.hikari", Bindable.ofInstance(new HikariConfig()))
+                .orElseGet(HikariConfig::new);
+        replica.setJdbcUrl(environment.getRequiredProperty("datasource.replica.url"));
+        replica.setUsername(environment.getProperty("datasource.replica.username", properties.determineUsername()));
+        replica.setPassword(environment.getProperty("datasource.replica.password", properties.determinePassword()));
+        replica.setDriverClassName(properties.determineDriverClassName());
+        replica.setReadOnly(true);
+
+        ReadWriteRoutingDataSource routing = new ReadWriteRoutingDataSource(
+                pool("primary", primary, meterRegistry), pool("replica", replica, meterRegistry),
+                readYourWritesWindow, meterRegistry);
+        routing.afterPropertiesSet();
+        // Defer borrowing until the first statement, when the transaction's read-only flag is set
+        return new LazyConnectionDataSourceProxy(routing);
+    }
+
+    @Override
+    public void destroy() {
+        pools.forEach(HikariDataSource::close);
+    }
+
+    private HikariDataSource pool(String name, HikariConfig config, MeterRegistry meterRegistry) {
+        config.setPoolName(name);
+        config.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+        HikariDataSource pool = new HikariDataSource(config);
+        pools.add(pool);
+        return pool;
+    }
+}
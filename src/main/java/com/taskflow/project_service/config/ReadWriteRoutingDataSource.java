@@ -0,0 +1,105 @@
+package com.taskflow.project_service.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * Sends connections of read-only transactions to the replica pool and everything else (writes,
+ * non-transactional work such as migrations) to the primary.
+ * <p>
+ * Read your writes: once a request has borrowed a connection for a read-write transaction, its
+ * later read-only transactions stay on the primary, and so do the caller's (X-User-Id) requests
+ * for {@code read-your-writes-window}, which should exceed the usual replication lag.
+ * <p>
+ * The route is decided when a connection is borrowed, so this must sit behind a
+ * {@link org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy}: the transaction's
+ * read-only flag is only known once the transaction has begun.
+ */
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+
+    enum Route { PRIMARY, REPLICA }
+
+    private static final String PINNED_ATTRIBUTE = ReadWriteRoutingDataSource.class.getName() + ".PINNED";
+
+    private final Cache<String, Boolean> pinnedCallers;
+    private final Counter primaryRoutes;
+    private final Counter replicaRoutes;
+
+    public ReadWriteRoutingDataSource(DataSource primary, DataSource replica, Duration readYourWritesWindow,
+                                      MeterRegistry meterRegistry) {
+        setTargetDataSources(Map.of(Route.PRIMARY, primary, Route.REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+        this.pinnedCallers = Caffeine.newBuilder()
+                .expireAfterWrite(readYourWritesWindow)
+                .maximumSize(100_000)
+                .build();
+        this.primaryRoutes = routeCounter(meterRegistry, Route.PRIMARY);
+        this.replicaRoutes = routeCounter(meterRegistry, Route.REPLICA);
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        HttpServletRequest request = currentRequest();
+        if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+            primaryRoutes.increment();
+            return Route.PRIMARY;
+        }
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            pin(request);
+            primaryRoutes.increment();
+            return Route.PRIMARY;
+        }
+        if (isPinned(request)) {
+            primaryRoutes.increment();
+            return Route.PRIMARY;
+        }
+        replicaRoutes.increment();
+        return Route.REPLICA;
+    }
+
+    private void pin(HttpServletRequest request) {
+        if (request == null) {
+            return;
+        }
+        request.setAttribute(PINNED_ATTRIBUTE, Boolean.TRUE);
+        String caller = request.getHeader("X-User-Id");
+        if (caller != null) {
+            pinnedCallers.put(caller, Boolean.TRUE);
+        }
+    }
+
+    private boolean isPinned(HttpServletRequest request) {
+        if (request == null) {
+            return false;
+        }
+        if (request.getAttribute(PINNED_ATTRIBUTE) != null) {
+            return true;
+        }
+        String caller = request.getHeader("X-User-Id");
+        return caller != null && pinnedCallers.getIfPresent(caller) != null;
+    }
+
+    private static HttpServletRequest currentRequest() {
+        return RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes
+                ? attributes.getRequest()
+                : null;
+    }
+
+    private static Counter routeCounter(MeterRegistry meterRegistry, Route route) {
+        return Counter.builder("db.route")
+                .description("Connections borrowed per DataSource route")
+                .tag("route", route.name().toLowerCase())
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,53 @@
+package com.taskflow.project_service.controllers;
+
+import com.taskflow.project_service.dto.ChangeBatchDTO;
+import com.taskflow.project_service.service.ChangeFeedService;
+import com.taskflow.project_service.service.ChangeStream;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.List;
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/api/changes")
+@RequiredArgsConstructor
+@Tag(name = "Change Feed", description = "Incremental sync of projects, members and workflow statuses")
+public class ChangeController {
+
+    private final ChangeFeedService changeFeedService;
+    private final ChangeStream changeStream;
+
+    @GetMapping
+    @Operation(summary = "Get the changes after a cursor",
+            description = "Without since the feed is read from its oldest retained event. Pass nextCursor as since "
+                    + "on the next call; 410 Gone means the cursor is older than the retention and the client has "
+                    + "to reload and continue from GET /api/changes/head.")
+    public ResponseEntity<ChangeBatchDTO> getChanges(
+            @RequestParam(required = false) String since,
+            @RequestParam(required = false) UUID projectId,
+            @RequestParam(required = false) Integer limit) {
+        return ResponseEntity.ok(changeFeedService.getChanges(since, projectId, limit));
+    }
+
+    @GetMapping("/head")
+    @Operation(summary = "Get the cursor of the current end of the feed, to take before a full reload")
+    public ResponseEntity<ChangeBatchDTO> getHead() {
+        return ResponseEntity.ok(new ChangeBatchDTO(List.of(), changeFeedService.getHeadCursor(), false));
+    }
+
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(summary = "Stream changes as Server-Sent Events",
+            description = "Starts after since (or Last-Event-ID on reconnect), or at the head when neither is given")
+    public SseEmitter streamChanges(
+            @RequestParam(required = false) String since,
+            @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId,
+            @RequestParam(required = false) UUID projectId) {
+        return changeStream.subscribe(lastEventId != null ? lastEventId : since, projectId);
+    }
+}
@@ -0,0 +1,42 @@
+package com.taskflow.project_service.controllers;
+
+import org.springframework.http.ETag;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+/**
+ * Strong ETags derived from version counters, so a conditional GET is decided by a version lookup
+ * before anything is loaded or resolved through UMS.
+ */
+final class ETags {
+
+    private ETags() {
+    }
+
+    static String project(long version) {
+        return "\"p" + version + "\"";
+    }
+
+    static String statuses(long statusVersion) {
+        return "\"s" + statusVersion + "\"";
+    }
+
+    // Profile snapshot refreshes bump member_version too, so it covers names and emails
+    static String members(long memberVersion) {
+        return "\"m" + memberVersion + "\"";
+    }
+
+    /** True when If-None-Match lists {@code etag} (compared weakly, as RFC 9110 requires) or is "*". */
+    static boolean matches(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null || etag == null) {
+            return false;
+        }
+        ETag current = ETag.create(etag);
+        return ETag.parse(ifNoneMatch).stream()
+                .anyMatch(candidate -> candidate.isWildcard() || candidate.compare(current, false));
+    }
+
+    static <T> ResponseEntity<T> notModified(String etag) {
+        return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+    }
+}
@@ -0,0 +1,45 @@
+package com.taskflow.project_service.controllers;
+
+import com.taskflow.project_service.dto.AccessCheckRequestDTO;
+import com.taskflow.project_service.dto.AccessCheckResponseDTO;
+import com.taskflow.project_service.service.MembershipIndex;
+import com.taskflow.project_service.service.UserLookupService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/api/projects")
+@RequiredArgsConstructor
+@Tag(name = "Project Access", description = "Endpoints for checking a user's project roles")
+public class ProjectAccessController {
+
+    private final MembershipIndex membershipIndex;
+    private final UserLookupService userLookupService;
+
+    @PostMapping("/access-check")
+    @Operation(summary = "Get one user's role in each of many projects (null where the user is not an active member)")
+    public ResponseEntity<AccessCheckResponseDTO> checkAccess(@Valid @RequestBody AccessCheckRequestDTO requestDTO) {
+        UUID userId = requestDTO.getUserId();
+        if (userId == null) {
+            if (requestDTO.getKeycloakId() == null || requestDTO.getKeycloakId().isBlank()) {
+                throw new RuntimeException("Either userId or keycloakId is required");
+            }
+            try {
+                userId = userLookupService.getUserByKeycloakId(requestDTO.getKeycloakId()).getId();
+            } catch (Exception e) {
+                throw new RuntimeException("Could not resolve user with keycloak id: " + requestDTO.getKeycloakId());
+            }
+        }
+
+        return ResponseEntity.ok(AccessCheckResponseDTO.builder()
+                .userId(userId)
+                .roles(membershipIndex.getRoles(userId, requestDTO.getProjectIds()))
+                .build());
+    }
+}
@@ -0,0 +1,25 @@
+package com.taskflow.project_service.controllers;
+
+import com.taskflow.project_service.api.ProjectBatchApi;
+import com.taskflow.project_service.dto.ProjectBatchRequestDTO;
+import com.taskflow.project_service.dto.ProjectBatchResponseDTO;
+import com.taskflow.project_service.service.ProjectService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.RestController;
+
+// Mappings come from ProjectBatchApi, which is also the Feign contract for calling services
+@RestController
+@RequiredArgsConstructor
+@Tag(name = "Project Management", description = "Endpoints for project operations")
+public class ProjectBatchController implements ProjectBatchApi {
+
+    private final ProjectService projectService;
+
+    @Override
+    @Operation(summary = "Get many projects with their workflow statuses in one call")
+    public ProjectBatchResponseDTO getProjects(ProjectBatchRequestDTO request) {
+        return projectService.getProjectsWithStatuses(request.getIds());
+    }
+}
@@ -1,17 +1,47 @@
 package com.taskflow.project_service.controllers;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.taskflow.project_service.dto.MyProjectResponseDTO;
+import com.taskflow.project_service.dto.PageResponseDTO;
+import com.taskflow.project_service.dto.ProjectKeyAvailabilityDTO;
+import com.taskflow.project_service.dto.ProjectPurgeStatusDTO;
 import com.taskflow.project_service.dto.ProjectRequestDTO;
 import com.taskflow.project_service.dto.ProjectResponseDTO;
+import com.taskflow.project_service.dto.ProjectSearchHitDTO;
+import com.taskflow.project_service.dto.WorkFlowStatusMoveRequestDTO;
+import com.taskflow.project_service.dto.WorkFlowStatusRequestDTO;
 import com.taskflow.project_service.dto.WorkFlowStatusResponseDTO;
 import com.taskflow.project_service.entities.Project;
+import com.taskflow.project_service.service.ProjectNotFoundException;
+import com.taskflow.project_service.service.ProjectPurger;
+import com.taskflow.project_service.service.ProjectSearchService;
 import com.taskflow.project_service.service.ProjectService;
+import com.taskflow.project_service.service.WorkflowStatusCache;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.context.request.async.WebAsyncUtils;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import jakarta.validation.Valid;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 @RestController
@@ -21,18 +51,101 @@ import java.util.UUID;
 public class ProjectController {
 
     private final ProjectService projectService;
+    private final ProjectSearchService projectSearchService;
+    private final ProjectPurger projectPurger;
+    private final ObjectMapper objectMapper;
+
+    @Value("${projects.stream.timeout:10m}")
+    private Duration streamTimeout;
+
+    @GetMapping(params = {"!limit", "!cursor"})
+    @Operation(summary = "Get all projects",
+            description = "The full list, streamed as a plain JSON array. "
+                    + "Pass limit and/or cursor to get a single page instead.")
+    @ApiResponse(responseCode = "200", content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+            array = @ArraySchema(schema = @Schema(implementation = ProjectResponseDTO.class))))
+    public ResponseEntity<StreamingResponseBody> streamAllProjects(WebRequest request) {
+        // A full export may outlast the container's default async timeout; only this handler gets longer
+        WebAsyncUtils.getAsyncManager(request).getAsyncWebRequest().setTimeout(streamTimeout.toMillis());
+        // Write the array row by row so a full export never holds the table in memory. Rows are not
+        // flushed one by one; the container's response buffer decides when bytes go out
+        ObjectWriter rowWriter = objectMapper.writerFor(ProjectResponseDTO.class)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        StreamingResponseBody body = out -> {
+            try (JsonGenerator json = objectMapper.createGenerator(out)) {
+                json.writeStartArray();
+                projectService.streamAllProjects(project -> {
+                    try {
+                        rowWriter.writeValue(json, project);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+                json.writeEndArray();
+            }
+        };
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(body);
+    }
 
     @GetMapping
-    @Operation(summary = "Get all projects")
-    public ResponseEntity<List<ProjectResponseDTO>> getAllProjects() {
-        return ResponseEntity.ok(projectService.getAllProjects());
+    @Operation(summary = "Get a page of projects",
+            description = "With limit and/or cursor a single page is returned together with the cursor of the next page.")
+    public ResponseEntity<PageResponseDTO<ProjectResponseDTO>> getProjectsPage(
+            @RequestParam(required = false) Integer limit,
+            @RequestParam(required = false) String cursor) {
+        return ResponseEntity.ok(projectService.getProjectsPage(cursor, limit));
+    }
+
+    @GetMapping("/mine")
+    @Operation(summary = "Get the projects the caller is a member of, with the caller's role")
+    public ResponseEntity<PageResponseDTO<MyProjectResponseDTO>> getMyProjects(
+            @RequestHeader("X-User-Id") UUID requestingUserId,
+            @RequestHeader(value = "X-User-Email", required = false) String requestingUserEmail,
+            @RequestParam(required = false) Integer limit,
+            @RequestParam(required = false) String cursor) {
+        return ResponseEntity.ok(projectService.getMyProjects(requestingUserEmail, requestingUserId, cursor, limit));
+    }
+
+    @GetMapping("/search")
+    @Operation(summary = "Search the caller's projects by key or name",
+            description = "Best matches first: exact key, key prefix, name prefix, name word prefix, then "
+                    + "fragments and near matches of the name")
+    public ResponseEntity<List<ProjectSearchHitDTO>> searchProjects(
+            @RequestHeader("X-User-Id") UUID requestingUserId,
+            @RequestHeader(value = "X-User-Email", required = false) String requestingUserEmail,
+            @RequestParam String q,
+            @RequestParam(required = false) Integer limit) {
+        return ResponseEntity.ok(projectSearchService.search(q, limit, requestingUserEmail, requestingUserId));
+    }
+
+    @GetMapping("/keys/{key}/available")
+    @Operation(summary = "Check whether a project key is free",
+            description = "Answered from memory; a taken key comes with up to five free alternatives")
+    public ResponseEntity<ProjectKeyAvailabilityDTO> getKeyAvailability(@PathVariable String key) {
+        return ResponseEntity.ok(projectService.getKeyAvailability(key));
+    }
+
+    @GetMapping("/purge/status")
+    @Operation(summary = "Progress of the background purge of deleted projects",
+            description = "Deleted projects still waiting to be purged, and how the last purge run went")
+    public ResponseEntity<ProjectPurgeStatusDTO> getPurgeStatus() {
+        return ResponseEntity.ok(projectPurger.getStatus());
     }
 
     @GetMapping("/{id}")
-    @Operation(summary = "Get project by ID")
-    public ResponseEntity<ProjectResponseDTO> getProjectById(@PathVariable UUID id) {
+    @Operation(summary = "Get project by ID",
+            description = "Carries an ETag; with a matching If-None-Match the answer is 304 after a version lookup")
+    public ResponseEntity<ProjectResponseDTO> getProjectById(
+            @PathVariable UUID id,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        if (ifNoneMatch != null) {
+            Optional<String> etag = projectService.getProjectVersion(id).map(ETags::project);
+            if (etag.isPresent() && ETags.matches(ifNoneMatch, etag.get())) {
+                return ETags.notModified(etag.get());
+            }
+        }
         return projectService.getProjectById(id)
-                .map(ResponseEntity::ok)
+                .map(project -> ResponseEntity.ok().eTag(ETags.project(project.getVersion())).body(project))
                 .orElse(ResponseEntity.notFound().build());
     }
 
@@ -47,25 +160,80 @@ public class ProjectController {
     public ResponseEntity<ProjectResponseDTO> updateProject(@PathVariable UUID id, @Valid @RequestBody ProjectRequestDTO projectDetailsDTO) {
         try {
             return ResponseEntity.ok(projectService.updateProject(id, projectDetailsDTO));
-        } catch (RuntimeException e) {
+        } catch (ProjectNotFoundException e) {
             return ResponseEntity.notFound().build();
         }
     }
 
     @DeleteMapping("/{id}")
-    @Operation(summary = "Delete a project")
+    @Operation(summary = "Delete a project",
+            description = "The project disappears right away; its members, statuses and transitions are purged in the background")
     public ResponseEntity<Void> deleteProject(@PathVariable UUID id) {
         try {
             projectService.deleteProject(id);
             return ResponseEntity.noContent().build();
-        } catch (RuntimeException e) {
+        } catch (ProjectNotFoundException e) {
             return ResponseEntity.notFound().build();
         }
     }
 
     @GetMapping("/{id}/statuses")
-    @Operation(summary = "Get workflow statuses for a project")
-    public ResponseEntity<List<WorkFlowStatusResponseDTO>> getProjectStatuses(@PathVariable UUID id) {
-        return ResponseEntity.ok(projectService.getProjectStatuses(id));
+    @Operation(summary = "Get workflow statuses for a project, ordered by position")
+    @ApiResponse(responseCode = "200", content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+            array = @ArraySchema(schema = @Schema(implementation = WorkFlowStatusResponseDTO.class))))
+    public ResponseEntity<byte[]> getProjectStatuses(
+            @PathVariable UUID id,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        // Served from the per-project cache as pre-serialized JSON, tagged with the cached status_version
+        WorkflowStatusCache.ProjectStatuses statuses = projectService.getProjectStatusesSnapshot(id);
+        if (!statuses.isKnownProject()) {
+            return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(statuses.getJson());
+        }
+        String etag = ETags.statuses(statuses.getVersion());
+        if (ETags.matches(ifNoneMatch, etag)) {
+            return ETags.notModified(etag);
+        }
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .eTag(etag)
+                .body(statuses.getJson());
+    }
+
+    @PostMapping("/{id}/statuses")
+    @Operation(summary = "Add a workflow status",
+            description = "Placed right after afterStatusId, or at the end when it is omitted")
+    public ResponseEntity<WorkFlowStatusResponseDTO> createStatus(@PathVariable UUID id,
+                                                                  @Valid @RequestBody WorkFlowStatusRequestDTO requestDTO) {
+        return ResponseEntity.ok(projectService.createStatus(id, requestDTO));
+    }
+
+    @PutMapping("/{id}/statuses/{statusId}")
+    @Operation(summary = "Update a workflow status",
+            description = "Requires the version last read; a stale version is rejected with 409")
+    public ResponseEntity<WorkFlowStatusResponseDTO> updateStatus(@PathVariable UUID id,
+                                                                  @PathVariable UUID statusId,
+                                                                  @Valid @RequestBody WorkFlowStatusRequestDTO requestDTO) {
+        return ResponseEntity.ok(projectService.updateStatus(id, statusId, requestDTO));
+    }
+
+    @DeleteMapping("/{id}/statuses/{statusId}")
+    @Operation(summary = "Delete a workflow status",
+            description = "Requires the version last read; a stale version is rejected with 409. "
+                    + "A status still used by transitions is rejected with 400")
+    public ResponseEntity<Void> deleteStatus(@PathVariable UUID id,
+                                             @PathVariable UUID statusId,
+                                             @RequestParam(required = false) Long version) {
+        projectService.deleteStatus(id, statusId, version);
+        return ResponseEntity.noContent().build();
+    }
+
+    @PostMapping("/{id}/statuses/{statusId}/move")
+    @Operation(summary = "Move a workflow status",
+            description = "Moves the status right after afterStatusId (to the front when it is null). "
+                    + "Only the moved status is written; a stale version is rejected with 409")
+    public ResponseEntity<WorkFlowStatusResponseDTO> moveStatus(@PathVariable UUID id,
+                                                                @PathVariable UUID statusId,
+                                                                @Valid @RequestBody WorkFlowStatusMoveRequestDTO moveDTO) {
+        return ResponseEntity.ok(projectService.moveStatus(id, statusId, moveDTO));
     }
 }
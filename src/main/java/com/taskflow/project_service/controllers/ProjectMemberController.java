@@ -1,6 +1,11 @@
 package com.taskflow.project_service.controllers;
 
 import com.taskflow.project_service.dto.AddMemberByEmailRequest;
+import com.taskflow.project_service.dto.BulkAddMembersRequestDTO;
+import com.taskflow.project_service.dto.BulkAddMembersResponseDTO;
+import com.taskflow.project_service.dto.BulkMemberChangeResponseDTO;
+import com.taskflow.project_service.dto.BulkRemoveMembersRequestDTO;
+import com.taskflow.project_service.dto.BulkRoleChangeRequestDTO;
 import com.taskflow.project_service.dto.ProjectMemberRequestDTO;
 import com.taskflow.project_service.dto.ProjectMemberResponseDTO;
 import com.taskflow.project_service.entities.ProjectMember;
@@ -10,6 +15,7 @@ import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -26,9 +32,25 @@ public class ProjectMemberController {
     private final ProjectMemberService projectMemberService;
 
     @GetMapping
-    @Operation(summary = "Get all members of a project")
-    public ResponseEntity<List<ProjectMemberResponseDTO>> getProjectMembers(@PathVariable UUID projectId) {
-        return ResponseEntity.ok(projectMemberService.getMembersByProject(projectId));
+    @Operation(summary = "Get all members of a project",
+            description = "Names and emails are snapshots refreshed in the background (members.profile-snapshot.max-age). " +
+                    "Carries an ETag; with a matching If-None-Match the answer is 304 without loading members")
+    public ResponseEntity<List<ProjectMemberResponseDTO>> getProjectMembers(
+            @PathVariable UUID projectId,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        // Version first: a membership write racing with the read can only make the tag older than the body
+        String etag = projectMemberService.getMemberVersion(projectId)
+                .map(ETags::members)
+                .orElse(null);
+        if (etag == null) {
+            // Unknown or deleted project; the rows of a deleted one stay until the purger gets to them
+            return ResponseEntity.ok(List.of());
+        }
+        if (ETags.matches(ifNoneMatch, etag)) {
+            return ETags.notModified(etag);
+        }
+        List<ProjectMemberResponseDTO> members = projectMemberService.getMembersByProject(projectId);
+        return ResponseEntity.ok().eTag(etag).body(members);
     }
 
     @PostMapping
@@ -39,6 +61,15 @@ public class ProjectMemberController {
         return ResponseEntity.ok(projectMemberService.addMemberToProject(projectId, requestDTO));
     }
 
+    @PostMapping("/bulk")
+    @Operation(summary = "Add many members to a project at once",
+            description = "Each entry is identified by userId or email; the result reports ADDED, ALREADY_MEMBER or UNKNOWN_USER per entry")
+    public ResponseEntity<BulkAddMembersResponseDTO> addMembersInBulk(
+            @PathVariable UUID projectId,
+            @Valid @RequestBody BulkAddMembersRequestDTO requestDTO) {
+        return ResponseEntity.ok(projectMemberService.addMembersInBulk(projectId, requestDTO));
+    }
+
     @PostMapping("/by-email")
     @Operation(summary = "Add a new member to a project by email")
     public ResponseEntity<ProjectMemberResponseDTO> addMemberByEmail(
@@ -68,6 +99,24 @@ public class ProjectMemberController {
         return ResponseEntity.ok(projectMemberService.updateMemberRole(projectId, userId, role));
     }
 
+    @PatchMapping("/roles")
+    @Operation(summary = "Give many members the same role at once",
+            description = "One statement for all listed members; demoting the last owner is rejected")
+    public ResponseEntity<BulkMemberChangeResponseDTO> updateRoles(
+            @PathVariable UUID projectId,
+            @Valid @RequestBody BulkRoleChangeRequestDTO requestDTO) {
+        return ResponseEntity.ok(projectMemberService.updateMemberRoles(projectId, requestDTO));
+    }
+
+    @DeleteMapping("/bulk")
+    @Operation(summary = "Remove many members from a project at once",
+            description = "One statement for all listed members; removing the last owner is rejected")
+    public ResponseEntity<BulkMemberChangeResponseDTO> removeMembersInBulk(
+            @PathVariable UUID projectId,
+            @Valid @RequestBody BulkRemoveMembersRequestDTO requestDTO) {
+        return ResponseEntity.ok(projectMemberService.removeMembersFromProject(projectId, requestDTO));
+    }
+
     @DeleteMapping("/{userId}")
     @Operation(summary = "Remove a member from a project")
     public ResponseEntity<Void> removeMember(@PathVariable UUID projectId, @PathVariable UUID userId) {
@@ -0,0 +1,45 @@
+package com.taskflow.project_service.controllers;
+
+import com.taskflow.project_service.dto.TransitionCheckRequestDTO;
+import com.taskflow.project_service.dto.TransitionCheckResultDTO;
+import com.taskflow.project_service.dto.WorkflowTransitionDTO;
+import com.taskflow.project_service.service.WorkflowTransitionService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/api/projects")
+@RequiredArgsConstructor
+@Tag(name = "Workflow Management", description = "Endpoints for workflow transition rules")
+public class WorkflowController {
+
+    private final WorkflowTransitionService workflowTransitionService;
+
+    @GetMapping("/{id}/transitions")
+    @Operation(summary = "Get the explicitly allowed status transitions of a project (empty means any active status to any other)")
+    public ResponseEntity<List<WorkflowTransitionDTO>> getTransitions(@PathVariable UUID id) {
+        return ResponseEntity.ok(workflowTransitionService.getTransitions(id));
+    }
+
+    @PutMapping("/{id}/transitions")
+    @Operation(summary = "Replace the allowed status transitions of a project")
+    public ResponseEntity<List<WorkflowTransitionDTO>> replaceTransitions(
+            @PathVariable UUID id,
+            @RequestBody List<@Valid @NotNull WorkflowTransitionDTO> transitions) {
+        return ResponseEntity.ok(workflowTransitionService.replaceTransitions(id, transitions));
+    }
+
+    @PostMapping("/transitions/check")
+    @Operation(summary = "Check a batch of (projectId, fromCode, toCode) status transitions")
+    public ResponseEntity<List<TransitionCheckResultDTO>> checkTransitions(@Valid @RequestBody TransitionCheckRequestDTO requestDTO) {
+        return ResponseEntity.ok(workflowTransitionService.checkTransitions(requestDTO.getChecks()));
+    }
+}
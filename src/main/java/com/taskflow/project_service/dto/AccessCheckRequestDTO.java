@@ -0,0 +1,28 @@
+package com.taskflow.project_service.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.UUID;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class AccessCheckRequestDTO {
+
+    // Local user id; the Keycloak id can be sent instead when the caller only knows that
+    private UUID userId;
+
+    private String keycloakId;
+
+    @NotEmpty(message = "At least one project id is required")
+    @Size(max = 1000, message = "At most 1000 projects can be checked at once")
+    private List<@NotNull UUID> projectIds;
+}
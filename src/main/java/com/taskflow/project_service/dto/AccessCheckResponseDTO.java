@@ -0,0 +1,22 @@
+package com.taskflow.project_service.dto;
+
+import com.taskflow.project_service.enums.ProjectRole;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+import java.util.UUID;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class AccessCheckResponseDTO {
+
+    private UUID userId;
+
+    // In request order; null when the user is not an active member (or the project does not exist)
+    private Map<UUID, ProjectRole> roles;
+}
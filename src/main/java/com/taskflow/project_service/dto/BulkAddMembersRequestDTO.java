@@ -0,0 +1,23 @@
+package com.taskflow.project_service.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BulkAddMembersRequestDTO {
+
+    @NotEmpty(message = "At least one member is required")
+    @Size(max = 1000, message = "At most 1000 members can be added at once")
+    private List<@Valid @NotNull BulkMemberEntryDTO> members;
+}
@@ -0,0 +1,19 @@
+package com.taskflow.project_service.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BulkAddMembersResponseDTO {
+    private int added;
+    private int alreadyMember;
+    private int unknownUser;
+    private List<BulkMemberResultDTO> results; // same order as the request entries
+}
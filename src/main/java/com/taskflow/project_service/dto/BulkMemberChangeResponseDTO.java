@@ -0,0 +1,15 @@
+package com.taskflow.project_service.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BulkMemberChangeResponseDTO {
+    private int affected;   // member rows changed or removed
+    private int skipped;    // listed users that are not members, or already have the role
+}
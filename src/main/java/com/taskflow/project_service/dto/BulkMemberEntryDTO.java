@@ -0,0 +1,27 @@
+package com.taskflow.project_service.dto;
+
+import com.taskflow.project_service.enums.ProjectRole;
+import jakarta.validation.constraints.Email;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+// One member to add: identified by userId, or by email when userId is absent
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BulkMemberEntryDTO {
+
+    private UUID userId;
+
+    @Email(message = "Invalid email format")
+    private String email;
+
+    @NotNull(message = "Role is required")
+    private ProjectRole role;
+}
@@ -0,0 +1,21 @@
+package com.taskflow.project_service.dto;
+
+import com.taskflow.project_service.enums.BulkMemberOutcome;
+import com.taskflow.project_service.enums.ProjectRole;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BulkMemberResultDTO {
+    private UUID userId;
+    private String email;
+    private ProjectRole role;
+    private BulkMemberOutcome outcome;
+}
@@ -0,0 +1,27 @@
+package com.taskflow.project_service.dto;
+
+import com.taskflow.project_service.enums.ProjectRole;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.UUID;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BulkRoleChangeRequestDTO {
+
+    @NotEmpty(message = "At least one user id is required")
+    @Size(max = 1000, message = "At most 1000 members can be changed at once")
+    private List<@NotNull UUID> userIds;
+
+    @NotNull(message = "Role is required")
+    private ProjectRole role;
+}
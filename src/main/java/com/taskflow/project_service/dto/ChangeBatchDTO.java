@@ -0,0 +1,18 @@
+package com.taskflow.project_service.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ChangeBatchDTO {
+    private List<ChangeEventDTO> changes;
+    private String nextCursor;   // never null: pass it as ?since= on the next call
+    private boolean hasMore;     // true when the batch was cut at the limit
+}
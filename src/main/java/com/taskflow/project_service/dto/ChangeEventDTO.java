@@ -0,0 +1,27 @@
+package com.taskflow.project_service.dto;
+
+import com.fasterxml.jackson.annotation.JsonRawValue;
+import com.taskflow.project_service.enums.ChangeEntityType;
+import com.taskflow.project_service.enums.ChangeType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ChangeEventDTO {
+    private String cursor;          // resume after this event with ?since=<cursor>
+    private ChangeEntityType entityType;
+    private ChangeType changeType;
+    private UUID projectId;
+    private UUID entityId;          // project id, member user id or status id
+    @JsonRawValue
+    private String payload;         // ProjectResponseDTO, ProjectMemberResponseDTO or WorkFlowStatusResponseDTO
+    private LocalDateTime occurredAt;
+}
@@ -0,0 +1,27 @@
+package com.taskflow.project_service.dto;
+
+import com.taskflow.project_service.enums.ProjectRole;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+// A project as seen by one of its members (argument order is used by the JPQL constructor expression)
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class MyProjectResponseDTO {
+    private UUID id;
+    private String name;
+    private String projectKey;
+    private String description;
+    private String type;
+    private UUID ownerId;
+    private LocalDateTime createdAt;
+    private ProjectRole role;
+    private LocalDateTime joinedAt;
+}
@@ -0,0 +1,17 @@
+package com.taskflow.project_service.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PageResponseDTO<T> {
+    private List<T> items;
+    private String nextCursor; // null on the last page
+}
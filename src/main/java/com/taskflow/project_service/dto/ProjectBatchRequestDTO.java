@@ -0,0 +1,23 @@
+package com.taskflow.project_service.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.UUID;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ProjectBatchRequestDTO {
+
+    @NotEmpty(message = "At least one project id is required")
+    @Size(max = 500, message = "At most 500 projects can be fetched at once")
+    private List<@NotNull UUID> ids;
+}
@@ -0,0 +1,22 @@
+package com.taskflow.project_service.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.UUID;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ProjectBatchResponseDTO {
+
+    // In request order, each requested id once
+    private List<ProjectWithStatusesDTO> projects;
+
+    // Requested ids that match no project
+    private List<UUID> notFound;
+}
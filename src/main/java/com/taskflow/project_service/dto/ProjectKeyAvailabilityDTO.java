@@ -0,0 +1,18 @@
+package com.taskflow.project_service.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ProjectKeyAvailabilityDTO {
+    private String key;                 // upper-cased, as it would be stored
+    private boolean available;
+    private List<String> suggestions;   // free alternatives when the key is taken
+}
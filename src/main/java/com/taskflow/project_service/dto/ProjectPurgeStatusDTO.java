@@ -0,0 +1,22 @@
+package com.taskflow.project_service.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ProjectPurgeStatusDTO {
+    private long pendingProjects;           // deleted, not purged yet
+    private boolean running;
+    private LocalDateTime lastRunStartedAt;
+    private LocalDateTime lastRunFinishedAt;
+    private int lastRunProjectsPurged;
+    private long lastRunRowsPurged;         // members, statuses, transitions and project rows
+    private double lastRunRowsPerSecond;
+}
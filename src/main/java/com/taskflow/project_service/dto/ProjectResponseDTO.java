@@ -20,4 +20,5 @@ public class ProjectResponseDTO {
     private String type;
     private UUID ownerId;
     private LocalDateTime createdAt;
+    private Long version;
 }
@@ -0,0 +1,23 @@
+package com.taskflow.project_service.dto;
+
+import com.taskflow.project_service.enums.ProjectMatch;
+import com.taskflow.project_service.enums.ProjectRole;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ProjectSearchHitDTO {
+    private UUID id;
+    private String name;
+    private String projectKey;
+    private String type;
+    private ProjectRole role;       // the caller's role
+    private ProjectMatch match;
+}
@@ -0,0 +1,20 @@
+package com.taskflow.project_service.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ProjectWithStatusesDTO {
+
+    private ProjectResponseDTO project;
+
+    // Ordered by position, as GET /api/projects/{id}/statuses returns them
+    private List<WorkFlowStatusResponseDTO> statuses;
+}
@@ -0,0 +1,26 @@
+package com.taskflow.project_service.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TransitionCheckDTO {
+
+    @NotNull(message = "Project ID is required")
+    private UUID projectId;
+
+    @NotBlank(message = "From status code is required")
+    private String fromCode;
+
+    @NotBlank(message = "To status code is required")
+    private String toCode;
+}
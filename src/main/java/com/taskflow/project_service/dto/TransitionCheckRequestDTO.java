@@ -0,0 +1,23 @@
+package com.taskflow.project_service.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TransitionCheckRequestDTO {
+
+    @NotEmpty(message = "At least one transition is required")
+    @Size(max = 1000, message = "At most 1000 transitions can be checked at once")
+    private List<@Valid @NotNull TransitionCheckDTO> checks;
+}
@@ -0,0 +1,21 @@
+package com.taskflow.project_service.dto;
+
+import com.taskflow.project_service.enums.TransitionCheckOutcome;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TransitionCheckResultDTO {
+    private UUID projectId;
+    private String fromCode;
+    private String toCode;
+    private boolean allowed;
+    private TransitionCheckOutcome outcome;
+}
@@ -0,0 +1,20 @@
+package com.taskflow.project_service.dto;
+
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class WorkFlowStatusMoveRequestDTO {
+    private UUID afterStatusId;     // the status to place it after; null moves it to the front
+
+    @NotNull(message = "Version is required")
+    private Long version;           // the version of the moved status last read
+}
@@ -0,0 +1,33 @@
+package com.taskflow.project_service.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class WorkFlowStatusRequestDTO {
+    @NotBlank(message = "Status name is required")
+    @Size(max = 255, message = "Status name must not exceed 255 characters")
+    private String statusName;
+
+    @NotBlank(message = "Status code is required")
+    @Size(max = 255, message = "Status code must not exceed 255 characters")
+    private String code;
+
+    @Size(max = 255, message = "Description must not exceed 255 characters")
+    private String description;
+
+    private Boolean isFinal;
+    private Boolean isActive;
+
+    private UUID afterStatusId;     // create only: insert after this status; null appends at the end
+    private Long version;           // update only: the version last read
+}
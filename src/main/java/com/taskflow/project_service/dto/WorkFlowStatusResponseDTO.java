@@ -17,8 +17,9 @@ public class WorkFlowStatusResponseDTO {
     private String statusName;
     private String code;
     private String description;
-    private Integer position;
+    private Integer position;       // sparse; compare positions, do not count on their values
     private Boolean isFinal;
     private Boolean isActive;
     private LocalDateTime createdAt;
+    private Long version;           // to send back with edits and moves
 }
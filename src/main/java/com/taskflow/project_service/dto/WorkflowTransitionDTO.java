@@ -0,0 +1,20 @@
+package com.taskflow.project_service.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class WorkflowTransitionDTO {
+
+    @NotBlank(message = "From status code is required")
+    private String fromCode;
+
+    @NotBlank(message = "To status code is required")
+    private String toCode;
+}
@@ -6,13 +6,27 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.SQLDelete;
+import org.hibernate.annotations.SQLRestriction;
 
 import java.time.LocalDateTime;
 import java.util.UUID;
 
 @Entity
 @Table(name = "projects")
+@Cacheable
+// Entries for projects changed on other instances are evicted from the change feed (see
+// ProjectCacheInvalidator); writes load through ProjectRepository.findFreshById
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "projects")
+// Soft delete: removing the entity only stamps deleted_at (one UPDATE however large the project),
+// and Hibernate still treats it as removed, including the second-level cache entry. Deleted rows
+// are filtered out of every entity query and join; native SQL has to filter them itself.
+// ProjectPurger deletes them, with their members, statuses and transitions, later.
+@SQLDelete(sql = "update projects set deleted_at = now() at time zone 'UTC' where project_id = ? and version = ?")
+@SQLRestriction("deleted_at is null")
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -28,7 +42,8 @@ public class Project {
     @Column(nullable = false)
     private String name;
 
-    @Column(name = "project_key", nullable = false, unique = true)
+    // Unique among live projects (partial index uk_projects_live_project_key, see V11)
+    @Column(name = "project_key", nullable = false)
     private String projectKey;
 
     @Column(length = 500)
@@ -42,4 +57,24 @@ public class Project {
     @CreationTimestamp
     @Column(name = "created_at", updatable = false)
     private LocalDateTime createdAt;
+
+    // Optimistic-lock version of the project row itself; also its ETag on GET /api/projects/{id}
+    @Version
+    @Column(nullable = false)
+    private Long version;
+
+    // Version counters are only ever incremented by bulk UPDATEs (see ProjectRepository);
+    // updatable = false keeps a stale entity save from writing an older value back. Those UPDATEs
+    // leave the second-level cache alone, so the counters on a loaded entity may be behind: read
+    // them through the repository queries, never from the entity.
+
+    // Incremented in every transaction that writes this project's workflow statuses
+    @Builder.Default
+    @Column(name = "status_version", nullable = false, updatable = false)
+    private Long statusVersion = 0L;
+
+    // Incremented in every transaction that writes this project's memberships
+    @Builder.Default
+    @Column(name = "member_version", nullable = false, updatable = false)
+    private Long memberVersion = 0L;
 }
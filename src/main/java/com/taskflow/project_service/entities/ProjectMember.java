@@ -50,4 +50,16 @@ public class ProjectMember {
     @UpdateTimestamp
     @Column(name = "updated_at")
     private LocalDateTime updatedAt;
+
+    // Profile snapshot from UMS, written when the member is added and refreshed only by
+    // MemberProfileReconciler (updatable = false: a role change must not write back an older copy)
+    @Column(name = "display_name", updatable = false)
+    private String displayName;
+
+    @Column(updatable = false)
+    private String email;
+
+    // When the snapshot was last checked against UMS; null until the first check
+    @Column(name = "profile_synced_at", updatable = false)
+    private LocalDateTime profileSyncedAt;
 }
@@ -36,6 +36,8 @@ public class WorkFlowStatus {
 
     private String description;
 
+    // Sparse position: statuses are spread ProjectService.STATUS_ORDER_GAP apart, so a move only
+    // rewrites the moved row (see ProjectService.moveStatus). Only the order of the values matters.
     @Column(name = "order_index")
     private Integer orderIndex;
 
@@ -58,4 +60,9 @@ public class WorkFlowStatus {
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "project_id", nullable = false)
     private Project project;
+
+    // Optimistic lock for edits and moves; clients send back the version they last read
+    @Version
+    @Column(nullable = false)
+    private Long version;
 }
@@ -0,0 +1,42 @@
+package com.taskflow.project_service.entities;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.UUID;
+
+// An allowed move between two workflow statuses of the same project
+@Entity
+@Table(name = "workflow_transition", uniqueConstraints = {
+        @UniqueConstraint(columnNames = {"project_id", "from_status_id", "to_status_id"})
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@JsonIgnoreProperties({"hibernateLazyInitializer", "handler"})
+public class WorkflowTransition {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.UUID)
+    @Column(name = "transition_id")
+    private UUID id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "project_id", nullable = false)
+    private Project project;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "from_status_id", nullable = false)
+    private WorkFlowStatus fromStatus;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "to_status_id", nullable = false)
+    private WorkFlowStatus toStatus;
+}
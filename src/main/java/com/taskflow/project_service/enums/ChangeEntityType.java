@@ -0,0 +1,7 @@
+package com.taskflow.project_service.enums;
+
+public enum ChangeEntityType {
+    PROJECT,
+    MEMBER,
+    STATUS
+}
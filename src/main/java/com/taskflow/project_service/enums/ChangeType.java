@@ -0,0 +1,6 @@
+package com.taskflow.project_service.enums;
+
+public enum ChangeType {
+    UPSERT,   // payload is the entity as the REST API returns it
+    DELETE    // no payload
+}
@@ -0,0 +1,10 @@
+package com.taskflow.project_service.enums;
+
+// How a search hit matched the query, best first; results are ranked in this order
+public enum ProjectMatch {
+    KEY_EXACT,
+    KEY_PREFIX,
+    NAME_PREFIX,
+    WORD_PREFIX,
+    FUZZY
+}
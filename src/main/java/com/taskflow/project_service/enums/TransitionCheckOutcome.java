@@ -0,0 +1,9 @@
+package com.taskflow.project_service.enums;
+
+public enum TransitionCheckOutcome {
+    ALLOWED,
+    NOT_ALLOWED,
+    INACTIVE_STATUS,
+    UNKNOWN_STATUS,
+    UNKNOWN_PROJECT
+}
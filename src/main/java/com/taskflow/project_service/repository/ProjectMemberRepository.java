@@ -1,15 +1,68 @@
 package com.taskflow.project_service.repository;
 
+import com.taskflow.project_service.dto.MyProjectResponseDTO;
+import com.taskflow.project_service.dto.ProjectMemberResponseDTO;
 import com.taskflow.project_service.entities.ProjectMember;
+import com.taskflow.project_service.enums.MemberStatus;
+import com.taskflow.project_service.enums.ProjectRole;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 @Repository
 public interface ProjectMemberRepository extends JpaRepository<ProjectMember, UUID> {
-    List<ProjectMember> findByProjectId(UUID projectId);
+    // The member list as served, names and emails from the profile snapshot
+    @Transactional(readOnly = true)
+    @Query("select new com.taskflow.project_service.dto.ProjectMemberResponseDTO(" +
+            "m.id, m.userId, m.project.id, m.role, m.status, m.joinedAt, m.displayName, m.email) " +
+            "from ProjectMember m where m.project.id = :projectId")
+    List<ProjectMemberResponseDTO> findResponsesByProjectId(UUID projectId);
+
+    @Query("select m from ProjectMember m where m.project.id = :projectId and m.userId = :userId")
     Optional<ProjectMember> findByProjectIdAndUserId(UUID projectId, UUID userId);
+
+    @Query("select m.userId from ProjectMember m where m.project.id = :projectId and m.userId in :userIds")
+    Set<UUID> findUserIdsByProjectIdAndUserIdIn(UUID projectId, Collection<UUID> userIds);
+
+    @Query("select count(m) > 0 from ProjectMember m where m.project.id = :projectId and m.role = :role and m.status = :status")
+    boolean existsByProjectIdAndRole(UUID projectId, ProjectRole role, MemberStatus status);
+
+    // [projectId, userId, role] of every member with the given status in the given projects
+    // (primary only, like ProjectRepository.findMemberVersionsByIdIn)
+    @Query("select m.project.id, m.userId, m.role from ProjectMember m where m.project.id in :projectIds and m.status = :status")
+    List<Object[]> findRolesByProjectIdIn(Collection<UUID> projectIds, MemberStatus status);
+
+    // [projectId, role] of every membership of one user with the given status
+    @Query("select m.project.id, m.role from ProjectMember m where m.userId = :userId and m.status = :status")
+    List<Object[]> findRolesByUserId(UUID userId, MemberStatus status);
+
+    // User ids of the stalest profile snapshots (never checked first), one entry per member row
+    @Query("select m.userId from ProjectMember m " +
+            "where m.profileSyncedAt is null or m.profileSyncedAt < :syncedBefore " +
+            "order by m.profileSyncedAt asc nulls first")
+    List<UUID> findUserIdsWithProfileSyncedBefore(LocalDateTime syncedBefore, Limit limit);
+
+    String MY_PROJECTS_SELECT = "select new com.taskflow.project_service.dto.MyProjectResponseDTO(" +
+            "p.id, p.name, p.projectKey, p.description, p.type, p.ownerId, p.createdAt, m.role, m.joinedAt) " +
+            "from ProjectMember m join m.project p where m.userId = :userId and m.status = :status ";
+
+    @Transactional(readOnly = true)
+    @Query(MY_PROJECTS_SELECT + "order by p.createdAt asc, p.id asc")
+    List<MyProjectResponseDTO> findMyProjectsFirstPage(UUID userId, MemberStatus status, Limit limit);
+
+    @Transactional(readOnly = true)
+    @Query(MY_PROJECTS_SELECT +
+            "and (p.createdAt > :createdAt or (p.createdAt = :createdAt and p.id > :id)) " +
+            "order by p.createdAt asc, p.id asc")
+    List<MyProjectResponseDTO> findMyProjectsPageAfter(UUID userId, MemberStatus status,
+                                                       LocalDateTime createdAt, UUID id, Limit limit);
 }
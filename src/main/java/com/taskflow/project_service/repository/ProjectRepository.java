@@ -1,9 +1,78 @@
 package com.taskflow.project_service.repository;
 
 import com.taskflow.project_service.entities.Project;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 public interface ProjectRepository extends JpaRepository<Project,UUID> {
+
+    // Query space of the counter increments below. A native UPDATE without one would evict every
+    // second-level cache region; this space matches no entity or cached query, so it evicts nothing.
+    // The increments skip deleted projects and return 0 for them, like for unknown ones
+    String VERSION_COUNTERS = "project_version_counters";
+
+    // Loads the row from the database and refreshes the cached entry, for writes that must not
+    // start from a copy cached before another instance changed the project
+    @QueryHints({
+            @QueryHint(name = "jakarta.persistence.cache.retrieveMode", value = "BYPASS"),
+            @QueryHint(name = "jakarta.persistence.cache.storeMode", value = "REFRESH")
+    })
+    @Query("select p from Project p where p.id = :id")
+    Optional<Project> findFreshById(UUID id);
+
+    // Read-only queries run on the read replica when one is configured (ReadWriteRoutingDataSource)
+
+    @Transactional(readOnly = true)
+    @Query("select p from Project p order by p.createdAt asc, p.id asc")
+    List<Project> findFirstPage(Limit limit);
+
+    @Transactional(readOnly = true)
+    @Query("select p from Project p " +
+            "where p.createdAt > :createdAt or (p.createdAt = :createdAt and p.id > :id) " +
+            "order by p.createdAt asc, p.id asc")
+    List<Project> findPageAfter(LocalDateTime createdAt, UUID id, Limit limit);
+
+    // Which of the given (upper-cased) keys are taken
+    @Transactional(readOnly = true)
+    @Query("select p.projectKey from Project p where p.projectKey in :projectKeys")
+    List<String> findProjectKeysIn(Collection<String> projectKeys);
+
+    @Transactional(readOnly = true)
+    @Query("select p.version from Project p where p.id = :id")
+    Optional<Long> findVersionById(UUID id);
+
+    @Transactional(readOnly = true)
+    @Query("select p.statusVersion from Project p where p.id = :id")
+    Optional<Long> findStatusVersionById(UUID id);
+
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = VERSION_COUNTERS))
+    @Query(value = "update projects set status_version = status_version + 1 where project_id = :id and deleted_at is null", nativeQuery = true)
+    int incrementStatusVersion(UUID id);
+
+    @Transactional(readOnly = true)
+    @Query("select p.memberVersion from Project p where p.id = :id")
+    Optional<Long> findMemberVersionById(UUID id);
+
+    // [projectId, memberVersion] pairs; projects that do not exist are simply absent.
+    // Not read-only: the membership index authorizes requests and must not lag behind the primary
+    @Query("select p.id, p.memberVersion from Project p where p.id in :ids")
+    List<Object[]> findMemberVersionsByIdIn(Collection<UUID> ids);
+
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = VERSION_COUNTERS))
+    @Query(value = "update projects set member_version = member_version + 1 where project_id = :id and deleted_at is null", nativeQuery = true)
+    int incrementMemberVersion(UUID id);
 }
@@ -1,12 +1,36 @@
 package com.taskflow.project_service.repository;
 
 import com.taskflow.project_service.entities.WorkFlowStatus;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
 public interface WorkFlowStatusRepository extends JpaRepository<WorkFlowStatus,UUID> {
 
     public List<WorkFlowStatus> findByProjectId(UUID projectId);
+
+    @Transactional(readOnly = true)
+    public List<WorkFlowStatus> findByProjectIdOrderByOrderIndexAsc(UUID projectId);
+
+    // Spreads a project's positions `gap` apart again, keeping their order, in one statement.
+    // Versions are left alone: the statuses did not change relative to each other
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "workflow_status"))
+    @Query(value = "update workflow_status s set order_index = r.rn * :gap " +
+            "from (select status_id, row_number() over (order by order_index, created_at, status_id) as rn " +
+            "from workflow_status where project_id = :projectId) r " +
+            "where s.status_id = r.status_id and s.order_index is distinct from r.rn * :gap", nativeQuery = true)
+    int spreadOrderIndexes(UUID projectId, int gap);
+
+    // Statuses of many projects in one query, grouped by project and ordered by position within each
+    @Query("select s from WorkFlowStatus s where s.project.id in :projectIds order by s.project.id, s.orderIndex")
+    public List<WorkFlowStatus> findByProjectIdInOrdered(Collection<UUID> projectIds);
 }
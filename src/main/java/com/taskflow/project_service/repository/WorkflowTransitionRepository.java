@@ -0,0 +1,22 @@
+package com.taskflow.project_service.repository;
+
+import com.taskflow.project_service.entities.WorkflowTransition;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.UUID;
+
+public interface WorkflowTransitionRepository extends JpaRepository<WorkflowTransition, UUID> {
+
+    // [fromStatusId, toStatusId] pairs, read straight from the FK columns
+    @Transactional(readOnly = true)
+    @Query("select t.fromStatus.id, t.toStatus.id from WorkflowTransition t where t.project.id = :projectId")
+    List<Object[]> findStatusIdPairsByProjectId(UUID projectId);
+
+    @Modifying
+    @Query("delete from WorkflowTransition t where t.project.id = :projectId")
+    int deleteByProjectId(UUID projectId);
+}
@@ -38,4 +38,10 @@ public class GatewayTrustFilter extends OncePerRequestFilter {
 
         chain.doFilter(request, response);
     }
+
+    // Streamed responses (SSE) finish in an async dispatch, which has to be authenticated as well
+    @Override
+    protected boolean shouldNotFilterAsyncDispatch() {
+        return false;
+    }
 }
@@ -0,0 +1,40 @@
+package com.taskflow.project_service.service;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Opaque cursor over the (tx_id, id) ordering of change_event. Encodes the key of the last event
+ * consumed; the next batch starts strictly after it.
+ */
+public record ChangeCursor(long txId, long eventId) implements Comparable<ChangeCursor> {
+
+    /** Before every event. */
+    public static final ChangeCursor START = new ChangeCursor(0, 0);
+
+    /** After every event of the transactions below {@code txId}, whether or not they wrote any. */
+    public static ChangeCursor before(long txId) {
+        return new ChangeCursor(txId - 1, Long.MAX_VALUE);
+    }
+
+    @Override
+    public int compareTo(ChangeCursor other) {
+        int byTx = Long.compare(txId, other.txId);
+        return byTx != 0 ? byTx : Long.compare(eventId, other.eventId);
+    }
+
+    public String encode() {
+        String raw = txId + "|" + eventId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static ChangeCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.indexOf('|');
+            return new ChangeCursor(Long.parseLong(raw.substring(0, separator)), Long.parseLong(raw.substring(separator + 1)));
+        } catch (RuntimeException e) {
+            throw new RuntimeException("Invalid cursor: " + cursor);
+        }
+    }
+}
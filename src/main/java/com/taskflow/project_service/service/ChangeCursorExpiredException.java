@@ -0,0 +1,9 @@
+package com.taskflow.project_service.service;
+
+/** The events after a change feed cursor have been purged; the consumer has to reload in full. */
+public class ChangeCursorExpiredException extends RuntimeException {
+
+    public ChangeCursorExpiredException(String cursor) {
+        super("Change feed cursor has expired, reload and start from GET /api/changes/head: " + cursor);
+    }
+}
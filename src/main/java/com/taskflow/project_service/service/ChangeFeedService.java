@@ -0,0 +1,162 @@
+package com.taskflow.project_service.service;
+
+import com.taskflow.project_service.dto.ChangeBatchDTO;
+import com.taskflow.project_service.dto.ChangeEventDTO;
+import com.taskflow.project_service.enums.ChangeEntityType;
+import com.taskflow.project_service.enums.ChangeType;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Read side of the change feed (see {@link ChangeLog}).
+ * <p>
+ * Events are ordered by (tx_id, id). A batch only contains events of transactions below the
+ * oldest transaction still running (the snapshot xmin): every transaction in that range has
+ * finished, so no event can later appear behind a cursor that was handed out. Events are kept for
+ * {@code changes.retention}; cursors older than what was purged are rejected with
+ * {@link ChangeCursorExpiredException}.
+ */
+@Service
+@Slf4j
+public class ChangeFeedService {
+
+    private static final int DEFAULT_LIMIT = 100;
+    private static final int MAX_LIMIT = 1000;
+
+    private static final String BOUNDS_SQL =
+            "SELECT pg_snapshot_xmin(pg_current_snapshot())::text::bigint AS xmin, w.tx_id, w.event_id " +
+            "FROM (SELECT 1) s LEFT JOIN change_event_watermark w ON TRUE";
+    private static final String EVENTS_SQL =
+            "SELECT id, tx_id, entity_type, change_type, project_id, entity_id, payload::text AS payload, created_at " +
+            "FROM change_event WHERE (tx_id, id) > (?, ?) AND tx_id < ? ";
+    private static final String ORDER_AND_LIMIT = "ORDER BY tx_id, id LIMIT ?";
+    private static final String PURGE_SQL =
+            "WITH purged AS (DELETE FROM change_event WHERE created_at < now() - make_interval(secs => ?) RETURNING tx_id, id), " +
+            "last AS (SELECT tx_id, id FROM purged ORDER BY tx_id DESC, id DESC LIMIT 1) " +
+            "INSERT INTO change_event_watermark (singleton, tx_id, event_id) SELECT TRUE, tx_id, id FROM last " +
+            "ON CONFLICT (singleton) DO UPDATE SET tx_id = excluded.tx_id, event_id = excluded.event_id " +
+            "WHERE (change_event_watermark.tx_id, change_event_watermark.event_id) < (excluded.tx_id, excluded.event_id)";
+
+    private static final RowMapper<ChangeEventDTO> EVENT_MAPPER = (rs, rowNum) -> ChangeEventDTO.builder()
+            .cursor(new ChangeCursor(rs.getLong("tx_id"), rs.getLong("id")).encode())
+            .entityType(ChangeEntityType.valueOf(rs.getString("entity_type")))
+            .changeType(ChangeType.valueOf(rs.getString("change_type")))
+            .projectId(rs.getObject("project_id", UUID.class))
+            .entityId(rs.getObject("entity_id", UUID.class))
+            .payload(rs.getString("payload"))
+            .occurredAt(rs.getObject("created_at", LocalDateTime.class))
+            .build();
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Duration retention;
+
+    public ChangeFeedService(JdbcTemplate jdbcTemplate,
+                             @Value("${changes.retention:7d}") Duration retention) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.retention = retention;
+    }
+
+    /**
+     * Changes after {@code since} (from the oldest retained event when it is null), optionally
+     * only those of one project, at most {@code limit} of them.
+     */
+    @Transactional(readOnly = true)
+    public ChangeBatchDTO getChanges(String since, UUID projectId, Integer limit) {
+        ChangeCursor after = since == null || since.isBlank() ? null : ChangeCursor.decode(since);
+        return read(after, projectId, null, limit(limit));
+    }
+
+    /** Cursor of the current end of the feed, for consumers that have just loaded the full state. */
+    @Transactional(readOnly = true)
+    public String getHeadCursor() {
+        return ChangeCursor.before(bounds().xmin()).encode();
+    }
+
+    /** Where a stream subscription starts: after {@code since}, or at the head when it is blank. */
+    @Transactional(readOnly = true)
+    public ChangeCursor resolveStart(String since) {
+        Bounds bounds = bounds();
+        if (since == null || since.isBlank()) {
+            return ChangeCursor.before(bounds.xmin());
+        }
+        ChangeCursor after = ChangeCursor.decode(since);
+        checkNotExpired(after, bounds);
+        return after;
+    }
+
+    /** Changes after {@code after}, optionally only of one project and/or one entity type. */
+    @Transactional(readOnly = true)
+    public ChangeBatchDTO read(ChangeCursor after, UUID projectId, ChangeEntityType entityType, int limit) {
+        Bounds bounds = bounds();
+        if (after != null) {
+            checkNotExpired(after, bounds);
+        }
+        ChangeCursor from = after == null ? ChangeCursor.START : after;
+
+        List<Object> args = new ArrayList<>(List.of(from.txId(), from.eventId(), bounds.xmin()));
+        String sql = EVENTS_SQL;
+        if (projectId != null) {
+            sql += "AND project_id = ? ";
+            args.add(projectId);
+        }
+        if (entityType != null) {
+            sql += "AND entity_type = ? ";
+            args.add(entityType.name());
+        }
+        args.add(limit + 1);
+        List<ChangeEventDTO> events = jdbcTemplate.query(sql + ORDER_AND_LIMIT, EVENT_MAPPER, args.toArray());
+
+        boolean hasMore = events.size() > limit;
+        if (hasMore) {
+            events = events.subList(0, limit);
+            return new ChangeBatchDTO(events, events.get(events.size() - 1).getCursor(), true);
+        }
+        // Everything below xmin has been read; a cursor never moves backwards (replicas may lag)
+        ChangeCursor end = ChangeCursor.before(bounds.xmin());
+        return new ChangeBatchDTO(events, (end.compareTo(from) > 0 ? end : from).encode(), false);
+    }
+
+    @Scheduled(initialDelayString = "${changes.purge-interval:1h}", fixedDelayString = "${changes.purge-interval:1h}")
+    public void purge() {
+        try {
+            jdbcTemplate.update(PURGE_SQL, (double) retention.toSeconds());
+        } catch (Exception e) {
+            log.warn("Change feed purge failed: {}", e.getMessage());
+        }
+    }
+
+    private static void checkNotExpired(ChangeCursor after, Bounds bounds) {
+        if (bounds.watermark() != null && after.compareTo(bounds.watermark()) < 0) {
+            throw new ChangeCursorExpiredException(after.encode());
+        }
+    }
+
+    private Bounds bounds() {
+        return jdbcTemplate.queryForObject(BOUNDS_SQL, (rs, rowNum) -> {
+            long eventId = rs.getLong("event_id");
+            ChangeCursor watermark = rs.wasNull() ? null : new ChangeCursor(rs.getLong("tx_id"), eventId);
+            return new Bounds(rs.getLong("xmin"), watermark);
+        });
+    }
+
+    static int limit(Integer limit) {
+        if (limit == null || limit <= 0) {
+            return DEFAULT_LIMIT;
+        }
+        return Math.min(limit, MAX_LIMIT);
+    }
+
+    private record Bounds(long xmin, ChangeCursor watermark) {
+    }
+}
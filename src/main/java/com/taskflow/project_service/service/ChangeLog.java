@@ -0,0 +1,76 @@
+package com.taskflow.project_service.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taskflow.project_service.enums.ChangeEntityType;
+import com.taskflow.project_service.enums.ChangeType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.Types;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Write side of the change feed: appends change_event rows in the caller's transaction, so an
+ * event exists exactly when its change committed. Every mutation of projects, members and
+ * statuses records its changes here; {@link ChangeFeedService} serves them.
+ */
+@Component
+@RequiredArgsConstructor
+public class ChangeLog {
+
+    private static final String INSERT_SQL = "INSERT INTO change_event " +
+            "(entity_type, change_type, project_id, entity_id, payload) VALUES (?, ?, ?, ?, ?::jsonb)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+
+    /** A change to record; {@code payload} is the entity's API representation, null for deletes. */
+    public record Change(ChangeEntityType entityType, ChangeType changeType, UUID projectId, UUID entityId,
+                         Object payload) {
+
+        public static Change upsert(ChangeEntityType entityType, UUID projectId, UUID entityId, Object payload) {
+            return new Change(entityType, ChangeType.UPSERT, projectId, entityId, payload);
+        }
+
+        public static Change delete(ChangeEntityType entityType, UUID projectId, UUID entityId) {
+            return new Change(entityType, ChangeType.DELETE, projectId, entityId, null);
+        }
+    }
+
+    public void record(Change change) {
+        recordAll(List.of(change));
+    }
+
+    /** Records the changes in order, as one JDBC batch. Must run inside the transaction of the changes. */
+    public void recordAll(List<Change> changes) {
+        if (changes.isEmpty()) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+            throw new IllegalStateException("Change events must be recorded in the transaction of the change");
+        }
+        jdbcTemplate.batchUpdate(INSERT_SQL, changes, changes.size(), (ps, change) -> {
+            ps.setString(1, change.entityType().name());
+            ps.setString(2, change.changeType().name());
+            ps.setObject(3, change.projectId());
+            ps.setObject(4, change.entityId());
+            if (change.payload() == null) {
+                ps.setNull(5, Types.VARCHAR);
+            } else {
+                ps.setString(5, toJson(change.payload()));
+            }
+        });
+    }
+
+    private String toJson(Object payload) {
+        try {
+            return objectMapper.writeValueAsString(payload);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize change payload", e);
+        }
+    }
+}
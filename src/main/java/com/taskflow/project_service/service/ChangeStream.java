@@ -0,0 +1,235 @@
+package com.taskflow.project_service.service;
+
+import com.taskflow.project_service.dto.ChangeBatchDTO;
+import com.taskflow.project_service.dto.ChangeEventDTO;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Pushes the change feed to Server-Sent Events subscribers.
+ * <p>
+ * One poller reads the feed every {@code changes.stream.poll-interval}, with one query per
+ * distinct subscriber cursor (subscribers that are caught up share the same cursor), and sends
+ * each subscriber the events of its project filter. Every event carries its cursor as the SSE id,
+ * so a client that reconnects with {@code Last-Event-ID} resumes where it stopped. Idle streams
+ * get a comment every {@code changes.stream.heartbeat} to keep proxies from closing them.
+ * <p>
+ * The poller only queues events. Each subscriber's queue is written out by a virtual thread of its
+ * own, so one slow client never holds up the others or the scheduler. A subscriber with more than
+ * {@code changes.stream.max-pending} events waiting is dropped and resumes by reconnecting.
+ */
+@Component
+@Slf4j
+public class ChangeStream {
+
+    private static final int POLL_BATCH_SIZE = 1000;
+
+    private final ChangeFeedService changeFeedService;
+    private final long timeoutMillis;
+    private final long heartbeatNanos;
+    private final int maxPending;
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private final ExecutorService sendExecutor = Executors.newThreadPerTaskExecutor(
+            Thread.ofVirtual().name("change-stream-", 0).factory());
+    private long lastHeartbeat = System.nanoTime();
+
+    public ChangeStream(ChangeFeedService changeFeedService,
+                        @Value("${changes.stream.timeout:30m}") Duration timeout,
+                        @Value("${changes.stream.heartbeat:15s}") Duration heartbeat,
+                        @Value("${changes.stream.max-pending:10000}") int maxPending) {
+        if (maxPending <= 0) {
+            throw new IllegalArgumentException("changes.stream.max-pending must be positive, was " + maxPending);
+        }
+        this.changeFeedService = changeFeedService;
+        this.timeoutMillis = timeout.toMillis();
+        this.heartbeatNanos = heartbeat.toNanos();
+        this.maxPending = maxPending;
+    }
+
+    /**
+     * Opens a stream of the changes after {@code since} (from now on when it is blank), optionally
+     * only those of one project. Expired or invalid cursors fail here, before the stream opens.
+     */
+    public SseEmitter subscribe(String since, UUID projectId) {
+        ChangeCursor start = changeFeedService.resolveStart(since);
+        SseEmitter emitter = new SseEmitter(timeoutMillis);
+        Subscriber subscriber = new Subscriber(emitter, projectId, start, maxPending);
+        emitter.onCompletion(() -> discard(subscriber));
+        emitter.onTimeout(() -> discard(subscriber));
+        emitter.onError(e -> discard(subscriber));
+        // Sent once the response starts, so the client gets the headers without waiting for an event
+        enqueue(subscriber, SseEmitter.event().comment("subscribed"));
+        subscribers.add(subscriber);
+        return emitter;
+    }
+
+    public int getSubscriberCount() {
+        return subscribers.size();
+    }
+
+    @PreDestroy
+    void shutdown() {
+        subscribers.forEach(this::discard);
+        sendExecutor.shutdownNow();
+    }
+
+    @Scheduled(fixedDelayString = "${changes.stream.poll-interval:500ms}")
+    public void poll() {
+        if (subscribers.isEmpty()) {
+            return;
+        }
+        Map<ChangeCursor, List<Subscriber>> byCursor = new LinkedHashMap<>();
+        for (Subscriber subscriber : subscribers) {
+            byCursor.computeIfAbsent(subscriber.cursor, cursor -> new ArrayList<>()).add(subscriber);
+        }
+        byCursor.forEach(this::deliver);
+
+        if (System.nanoTime() - lastHeartbeat >= heartbeatNanos) {
+            lastHeartbeat = System.nanoTime();
+            for (Subscriber subscriber : subscribers) {
+                enqueue(subscriber, SseEmitter.event().comment("heartbeat"));
+            }
+        }
+    }
+
+    private void deliver(ChangeCursor cursor, List<Subscriber> group) {
+        ChangeBatchDTO batch;
+        try {
+            batch = changeFeedService.read(cursor, null, null, POLL_BATCH_SIZE);
+        } catch (ChangeCursorExpiredException e) {
+            group.forEach(subscriber -> close(subscriber, e));
+            return;
+        } catch (Exception e) {
+            log.warn("Change stream poll failed: {}", e.getMessage());
+            return;
+        }
+
+        ChangeCursor next = ChangeCursor.decode(batch.getNextCursor());
+        for (Subscriber subscriber : group) {
+            for (ChangeEventDTO change : batch.getChanges()) {
+                if (subscriber.projectId == null || subscriber.projectId.equals(change.getProjectId())) {
+                    if (!enqueue(subscriber, SseEmitter.event().id(change.getCursor()).name("change").data(change))) {
+                        break;
+                    }
+                }
+            }
+            subscriber.cursor = next;
+        }
+    }
+
+    // Queues an event for the subscriber's sender; false once the subscriber is gone or too far behind
+    private boolean enqueue(Subscriber subscriber, SseEmitter.SseEventBuilder event) {
+        if (subscriber.closed) {
+            return false;
+        }
+        if (!subscriber.pending.offer(event)) {
+            log.info("Dropping change stream subscriber with {} events pending", maxPending);
+            discard(subscriber);
+            // Completing waits for a send in progress, which is what made the subscriber slow
+            sendExecutor.execute(() -> subscriber.emitter.completeWithError(
+                    new IllegalStateException("Change stream subscriber fell too far behind")));
+            return false;
+        }
+        if (subscriber.draining.compareAndSet(false, true)) {
+            sendExecutor.execute(() -> drain(subscriber));
+        }
+        return true;
+    }
+
+    // Runs on the subscriber's sender; only one drain per subscriber is active at a time
+    private void drain(Subscriber subscriber) {
+        do {
+            if (!sendPending(subscriber)) {
+                return;
+            }
+            if (subscriber.closing) {
+                // Set only after the last event was queued, which may have arrived after the loop above
+                if (sendPending(subscriber)) {
+                    subscriber.emitter.complete();
+                }
+                return;
+            }
+            subscriber.draining.set(false);
+        } while (!subscriber.pending.isEmpty() && subscriber.draining.compareAndSet(false, true));
+    }
+
+    private boolean sendPending(Subscriber subscriber) {
+        SseEmitter.SseEventBuilder event;
+        while (!subscriber.closed && (event = subscriber.pending.poll()) != null) {
+            if (!send(subscriber, event)) {
+                return false;
+            }
+        }
+        return !subscriber.closed;
+    }
+
+    private boolean send(Subscriber subscriber, SseEmitter.SseEventBuilder event) {
+        try {
+            subscriber.emitter.send(event);
+            return true;
+        } catch (IOException | IllegalStateException e) {
+            // Client went away; the emitter callbacks may not fire for a dead connection
+            discard(subscriber);
+            subscriber.emitter.completeWithError(e);
+            return false;
+        }
+    }
+
+    // Sends the expired event after whatever is still queued, then completes the stream
+    private void close(Subscriber subscriber, ChangeCursorExpiredException e) {
+        if (!enqueue(subscriber, SseEmitter.event().name("expired").data(e.getMessage()))) {
+            return;
+        }
+        subscribers.remove(subscriber);
+        subscriber.closing = true;
+        if (subscriber.draining.compareAndSet(false, true)) {
+            sendExecutor.execute(() -> drain(subscriber));
+        }
+    }
+
+    private void discard(Subscriber subscriber) {
+        subscribers.remove(subscriber);
+        subscriber.closed = true;
+        subscriber.pending.clear();
+    }
+
+    private static final class Subscriber {
+        private final SseEmitter emitter;
+        private final UUID projectId;
+        private final BlockingQueue<SseEmitter.SseEventBuilder> pending;
+        // Whether a sender is (about to be) working on pending
+        private final AtomicBoolean draining = new AtomicBoolean();
+        // Only the poller thread reads and advances it
+        private ChangeCursor cursor;
+        // Complete the emitter once pending is sent
+        private volatile boolean closing;
+        // Gone: nothing more is queued or sent
+        private volatile boolean closed;
+
+        private Subscriber(SseEmitter emitter, UUID projectId, ChangeCursor cursor, int maxPending) {
+            this.emitter = emitter;
+            this.projectId = projectId;
+            this.cursor = cursor;
+            this.pending = new ArrayBlockingQueue<>(maxPending);
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package com.taskflow.project_service.service;
+
+import com.taskflow.project_service.dto.WorkFlowStatusResponseDTO;
+import com.taskflow.project_service.enums.TransitionCheckOutcome;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Immutable transition model of one project: a dense n x n bit matrix indexed by status ordinal
+ * (the status position in the ordered list), so a check is two hash lookups and one bit test.
+ * <p>
+ * With no explicit transitions every active status may move to every other active status;
+ * otherwise only the listed (from, to) pairs between active statuses are allowed.
+ * Moving a status onto itself is always allowed.
+ */
+public final class CompiledWorkflow {
+
+    private final Map<String, Integer> ordinalByCode;
+    private final boolean[] active;
+    private final long[] allowed;
+    private final int size;
+
+    private CompiledWorkflow(Map<String, Integer> ordinalByCode, boolean[] active, long[] allowed, int size) {
+        this.ordinalByCode = ordinalByCode;
+        this.active = active;
+        this.allowed = allowed;
+        this.size = size;
+    }
+
+    /**
+     * @param statuses    the project's statuses, ordered by position
+     * @param transitions explicitly allowed [fromStatusId, toStatusId] pairs; empty means "all allowed"
+     */
+    public static CompiledWorkflow compile(List<WorkFlowStatusResponseDTO> statuses, Collection<UUID[]> transitions) {
+        int size = statuses.size();
+        Map<String, Integer> ordinalByCode = new HashMap<>(size * 2);
+        Map<UUID, Integer> ordinalById = new HashMap<>(size * 2);
+        boolean[] active = new boolean[size];
+        for (int i = 0; i < size; i++) {
+            WorkFlowStatusResponseDTO status = statuses.get(i);
+            ordinalByCode.put(status.getCode(), i);
+            ordinalById.put(status.getId(), i);
+            active[i] = !Boolean.FALSE.equals(status.getIsActive());
+        }
+
+        long[] allowed = new long[(size * size + 63) / 64];
+        if (transitions.isEmpty()) {
+            for (int from = 0; from < size; from++) {
+                for (int to = 0; to < size; to++) {
+                    if (active[from] && active[to]) {
+                        set(allowed, from * size + to);
+                    }
+                }
+            }
+        } else {
+            for (UUID[] transition : transitions) {
+                Integer from = ordinalById.get(transition[0]);
+                Integer to = ordinalById.get(transition[1]);
+                if (from != null && to != null && active[from] && active[to]) {
+                    set(allowed, from * size + to);
+                }
+            }
+        }
+
+        return new CompiledWorkflow(Map.copyOf(ordinalByCode), active, allowed, size);
+    }
+
+    public TransitionCheckOutcome check(String fromCode, String toCode) {
+        Integer from = ordinalByCode.get(fromCode);
+        Integer to = ordinalByCode.get(toCode);
+        if (from == null || to == null) {
+            return TransitionCheckOutcome.UNKNOWN_STATUS;
+        }
+        if (from.equals(to)) {
+            return TransitionCheckOutcome.ALLOWED;
+        }
+        if (!active[from] || !active[to]) {
+            return TransitionCheckOutcome.INACTIVE_STATUS;
+        }
+        int bit = from * size + to;
+        return (allowed[bit >>> 6] & (1L << bit)) != 0
+                ? TransitionCheckOutcome.ALLOWED
+                : TransitionCheckOutcome.NOT_ALLOWED;
+    }
+
+    private static void set(long[] bits, int bit) {
+        bits[bit >>> 6] |= 1L << bit;
+    }
+}
@@ -0,0 +1,167 @@
+package com.taskflow.project_service.service;
+
+import com.taskflow.project_service.dto.UserResponse;
+import com.taskflow.project_service.repository.ProjectMemberRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TimeZone;
+import java.util.UUID;
+
+/**
+ * Keeps the member profile snapshots ({@code project_member.display_name/email}) close to UMS.
+ * <p>
+ * Every {@code members.profile-snapshot.sync-interval} it takes the member rows whose snapshot was
+ * last checked more than {@code members.profile-snapshot.max-age} ago (never-checked rows first),
+ * a page of {@code page-size} rows at a time, and resolves their users with one bulk UMS lookup
+ * per page. Snapshots are rewritten with JDBC batches; members whose name or email actually changed
+ * are recorded in the change feed and their projects get their {@code member_version} bumped,
+ * which moves the member-list ETag. A run stops after
+ * {@code max-pages-per-run} pages, or early when UMS resolves nobody in a page (most likely down).
+ * <p>
+ * Several replicas may reconcile the same rows at once; the writes are idempotent.
+ */
+@Component
+@Slf4j
+public class MemberProfileReconciler {
+
+    // Before the snapshot is overwritten: a change feed event (shaped like ProjectMemberResponseDTO) for
+    // every member row whose name or email changes, and a bump of the projects those rows belong to
+    private static final String RECORD_CHANGED_MEMBERS = "insert into change_event " +
+            "(entity_type, change_type, project_id, entity_id, payload) " +
+            "select 'MEMBER', 'UPSERT', project_id, user_id, jsonb_build_object('id', id, 'userId', user_id, " +
+            "'projectId', project_id, 'role', role, 'status', status, 'joinedAt', joined_at, 'name', ?, 'email', ?) " +
+            "from project_member where user_id = ? and (display_name is distinct from ? or email is distinct from ?)";
+    private static final String BUMP_CHANGED_PROJECTS = "update projects set member_version = member_version + 1 " +
+            "where project_id in (select project_id from project_member " +
+            "where user_id = ? and (display_name is distinct from ? or email is distinct from ?))";
+    private static final String UPDATE_SNAPSHOT = "update project_member " +
+            "set display_name = ?, email = ?, profile_synced_at = ? where user_id = ?";
+    // Users UMS does not know keep their last snapshot but go to the back of the queue
+    private static final String MARK_CHECKED = "update project_member set profile_synced_at = ? where user_id = ?";
+
+    private final ProjectMemberRepository projectMemberRepository;
+    private final UserLookupService userLookupService;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final Duration maxAge;
+    private final int pageSize;
+    private final int maxPagesPerRun;
+    private final Counter refreshed;
+    private final Counter unknown;
+
+    public MemberProfileReconciler(ProjectMemberRepository projectMemberRepository,
+                                   UserLookupService userLookupService,
+                                   JdbcTemplate jdbcTemplate,
+                                   TransactionTemplate transactionTemplate,
+                                   MeterRegistry meterRegistry,
+                                   @Value("${members.profile-snapshot.max-age:15m}") Duration maxAge,
+                                   @Value("${members.profile-snapshot.page-size:500}") int pageSize,
+                                   @Value("${members.profile-snapshot.max-pages-per-run:20}") int maxPagesPerRun) {
+        this.projectMemberRepository = projectMemberRepository;
+        this.userLookupService = userLookupService;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.maxAge = maxAge;
+        this.pageSize = pageSize;
+        this.maxPagesPerRun = maxPagesPerRun;
+        this.refreshed = snapshotCounter(meterRegistry, "refreshed");
+        this.unknown = snapshotCounter(meterRegistry, "unknown");
+    }
+
+    @Scheduled(initialDelayString = "${members.profile-snapshot.sync-interval:1m}",
+            fixedDelayString = "${members.profile-snapshot.sync-interval:1m}")
+    public void scheduledReconcile() {
+        try {
+            reconcile();
+        } catch (Exception e) {
+            log.warn("Member profile reconciliation failed: {}", e.getMessage());
+        }
+    }
+
+    /** Runs one reconciliation pass and returns the number of users whose snapshots were checked. */
+    public int reconcile() {
+        // Rows checked in this pass are stamped with the current time, so later pages skip them
+        LocalDateTime syncedBefore = LocalDateTime.now().minus(maxAge);
+        int checked = 0;
+        for (int page = 0; page < maxPagesPerRun; page++) {
+            List<UUID> rows = projectMemberRepository.findUserIdsWithProfileSyncedBefore(syncedBefore, Limit.of(pageSize));
+            if (rows.isEmpty()) {
+                break;
+            }
+            Set<UUID> userIds = new LinkedHashSet<>(rows);
+            Map<UUID, UserResponse> users = userLookupService.refreshUsersByIds(userIds);
+            if (users.isEmpty()) {
+                log.warn("UMS resolved none of {} members; stopping profile reconciliation until the next run", userIds.size());
+                break;
+            }
+            write(userIds, users);
+            checked += userIds.size();
+            if (rows.size() < pageSize) {
+                break;
+            }
+        }
+        return checked;
+    }
+
+    private void write(Set<UUID> userIds, Map<UUID, UserResponse> users) {
+        Timestamp now = Timestamp.from(Instant.now());
+        // Same convention as Hibernate's writes (hibernate.jdbc.time_zone=UTC)
+        Calendar utc = Calendar.getInstance(TimeZone.getTimeZone("UTC"));
+        List<UserResponse> found = new ArrayList<>(users.values());
+        List<UUID> missing = userIds.stream().filter(id -> !users.containsKey(id)).toList();
+
+        transactionTemplate.executeWithoutResult(status -> {
+            jdbcTemplate.batchUpdate(RECORD_CHANGED_MEMBERS, found, found.size(), (ps, user) -> {
+                ps.setString(1, user.getName());
+                ps.setString(2, user.getEmail());
+                ps.setObject(3, user.getId());
+                ps.setString(4, user.getName());
+                ps.setString(5, user.getEmail());
+            });
+            jdbcTemplate.batchUpdate(BUMP_CHANGED_PROJECTS, found, found.size(), (ps, user) -> {
+                ps.setObject(1, user.getId());
+                ps.setString(2, user.getName());
+                ps.setString(3, user.getEmail());
+            });
+            jdbcTemplate.batchUpdate(UPDATE_SNAPSHOT, found, found.size(), (ps, user) -> {
+                ps.setString(1, user.getName());
+                ps.setString(2, user.getEmail());
+                ps.setTimestamp(3, now, utc);
+                ps.setObject(4, user.getId());
+            });
+            if (!missing.isEmpty()) {
+                jdbcTemplate.batchUpdate(MARK_CHECKED, missing, missing.size(), (ps, userId) -> {
+                    ps.setTimestamp(1, now, utc);
+                    ps.setObject(2, userId);
+                });
+            }
+        });
+        refreshed.increment(found.size());
+        unknown.increment(missing.size());
+    }
+
+    private static Counter snapshotCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("members.profile.snapshots")
+                .description("Users whose member profile snapshots were checked against UMS")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
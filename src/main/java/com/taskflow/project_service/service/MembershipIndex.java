@@ -0,0 +1,191 @@
+package com.taskflow.project_service.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.taskflow.project_service.enums.MemberStatus;
+import com.taskflow.project_service.enums.ProjectRole;
+import com.taskflow.project_service.repository.ProjectMemberRepository;
+import com.taskflow.project_service.repository.ProjectRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * In-memory index of (projectId, userId) -> role for ACTIVE members, one entry per project.
+ * <p>
+ * Entries are weighed by member count and bounded by {@code membership.index.maximum-weight};
+ * projects not read for {@code membership.index.expire-after-access} are dropped first.
+ * Every membership write must increment {@code projects.member_version} in its transaction and
+ * register its change here with {@link #applyAfterCommit}. Entries older than
+ * {@code membership.index.revalidate-after} are checked against that version (one IN query for
+ * any number of projects), which is how writes made on other replicas are picked up.
+ */
+@Component
+public class MembershipIndex {
+
+    private final ProjectRepository projectRepository;
+    private final ProjectMemberRepository projectMemberRepository;
+    private final long revalidateAfterNanos;
+    private final Cache<UUID, ProjectMemberships> cache;
+
+    public MembershipIndex(ProjectRepository projectRepository,
+                           ProjectMemberRepository projectMemberRepository,
+                           MeterRegistry meterRegistry,
+                           @Value("${membership.index.maximum-weight:500000}") long maximumWeight,
+                           @Value("${membership.index.expire-after-access:30m}") Duration expireAfterAccess,
+                           @Value("${membership.index.revalidate-after:2s}") Duration revalidateAfter) {
+        this.projectRepository = projectRepository;
+        this.projectMemberRepository = projectMemberRepository;
+        this.revalidateAfterNanos = revalidateAfter.toNanos();
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maximumWeight)
+                .weigher((UUID projectId, ProjectMemberships memberships) -> memberships.roles.size() + 1)
+                .expireAfterAccess(expireAfterAccess)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "project.memberships");
+    }
+
+    /** Role of an ACTIVE member, or null when the user is not an active member of the project. */
+    public ProjectRole getRole(UUID projectId, UUID userId) {
+        return getRoles(userId, List.of(projectId)).get(projectId);
+    }
+
+    /**
+     * Roles of one user across many projects, in the order of {@code projectIds}. Projects the user
+     * is not an active member of (or that do not exist) map to null.
+     */
+    public Map<UUID, ProjectRole> getRoles(UUID userId, Collection<UUID> projectIds) {
+        Map<UUID, ProjectMemberships> memberships = getAll(projectIds);
+        Map<UUID, ProjectRole> roles = new LinkedHashMap<>();
+        for (UUID projectId : projectIds) {
+            ProjectMemberships entry = memberships.get(projectId);
+            roles.put(projectId, entry == null ? null : entry.roles.get(userId));
+        }
+        return roles;
+    }
+
+    /**
+     * Applies a membership change to the cached entry once the current transaction commits.
+     * A null role means the member was removed.
+     */
+    public void applyAfterCommit(UUID projectId, Map<UUID, ProjectRole> changes) {
+        runAfterCommit(() -> cache.asMap().computeIfPresent(projectId, (id, entry) -> entry.with(changes)));
+    }
+
+    public void evictAfterCommit(UUID projectId) {
+        runAfterCommit(() -> cache.invalidate(projectId));
+    }
+
+    private Map<UUID, ProjectMemberships> getAll(Collection<UUID> projectIds) {
+        long now = System.nanoTime();
+        Map<UUID, ProjectMemberships> result = new HashMap<>();
+        Map<UUID, ProjectMemberships> stale = new HashMap<>();
+        Set<UUID> missing = new LinkedHashSet<>();
+
+        for (UUID projectId : new LinkedHashSet<>(projectIds)) {
+            ProjectMemberships cached = cache.getIfPresent(projectId);
+            if (cached == null) {
+                missing.add(projectId);
+            } else if (now - cached.validatedAt >= revalidateAfterNanos) {
+                stale.put(projectId, cached);
+            } else {
+                result.put(projectId, cached);
+            }
+        }
+        if (missing.isEmpty() && stale.isEmpty()) {
+            return result;
+        }
+
+        // One version lookup for every project we cannot trust; versions are read before rows
+        // so a concurrent write can only make an entry look older than it is
+        Set<UUID> toCheck = new LinkedHashSet<>(missing);
+        toCheck.addAll(stale.keySet());
+        Map<UUID, Long> versions = new HashMap<>();
+        for (Object[] row : projectRepository.findMemberVersionsByIdIn(toCheck)) {
+            versions.put((UUID) row[0], (Long) row[1]);
+        }
+
+        List<UUID> toLoad = new ArrayList<>();
+        for (UUID projectId : toCheck) {
+            Long version = versions.get(projectId);
+            ProjectMemberships cached = stale.get(projectId);
+            if (version == null) {
+                cache.invalidate(projectId); // project no longer exists
+            } else if (cached != null && cached.version == version) {
+                cached.validatedAt = now;
+                result.put(projectId, cached);
+            } else {
+                toLoad.add(projectId);
+            }
+        }
+        if (toLoad.isEmpty()) {
+            return result;
+        }
+
+        Map<UUID, Map<UUID, ProjectRole>> rolesByProject = new HashMap<>();
+        toLoad.forEach(projectId -> rolesByProject.put(projectId, new HashMap<>()));
+        for (Object[] row : projectMemberRepository.findRolesByProjectIdIn(toLoad, MemberStatus.ACTIVE)) {
+            rolesByProject.get((UUID) row[0]).put((UUID) row[1], (ProjectRole) row[2]);
+        }
+        rolesByProject.forEach((projectId, roles) -> {
+            ProjectMemberships loaded = new ProjectMemberships(versions.get(projectId), Map.copyOf(roles), now);
+            cache.put(projectId, loaded);
+            result.put(projectId, loaded);
+        });
+        return result;
+    }
+
+    private static void runAfterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    private static final class ProjectMemberships {
+        private final long version;
+        private final Map<UUID, ProjectRole> roles;
+        private volatile long validatedAt;
+
+        private ProjectMemberships(long version, Map<UUID, ProjectRole> roles, long validatedAt) {
+            this.version = version;
+            this.roles = roles;
+            this.validatedAt = validatedAt;
+        }
+
+        // Copy with local changes applied; keeps the old version so the next revalidation
+        // reloads the entry and picks up anything this replica did not see
+        private ProjectMemberships with(Map<UUID, ProjectRole> changes) {
+            Map<UUID, ProjectRole> updated = new HashMap<>(roles);
+            changes.forEach((userId, role) -> {
+                if (role == null) {
+                    updated.remove(userId);
+                } else {
+                    updated.put(userId, role);
+                }
+            });
+            return new ProjectMemberships(version, Map.copyOf(updated), validatedAt);
+        }
+    }
+}
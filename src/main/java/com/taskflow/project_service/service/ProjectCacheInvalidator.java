@@ -0,0 +1,65 @@
+package com.taskflow.project_service.service;
+
+import com.taskflow.project_service.dto.ChangeBatchDTO;
+import com.taskflow.project_service.enums.ChangeEntityType;
+import com.taskflow.project_service.entities.Project;
+import jakarta.persistence.Cache;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Keeps this instance's second-level cache entries for {@link Project} in step with writes made on
+ * other instances: every {@code projects.cache.invalidate-interval} it reads the PROJECT events of
+ * the change feed and evicts the projects they name. Writes made here update the entries directly.
+ * <p>
+ * A project changed elsewhere can therefore be served stale for about one interval (longer while
+ * a transaction holds the feed back, see {@link ChangeFeedService}); the expiry of the "projects"
+ * region in hibernate-cache.conf bounds it in any case. Writes never start from a cached copy.
+ */
+@Component
+@Slf4j
+public class ProjectCacheInvalidator {
+
+    private static final int BATCH_SIZE = 1000;
+
+    private final ChangeFeedService changeFeedService;
+    private final Cache cache;
+    private ChangeCursor cursor;
+
+    public ProjectCacheInvalidator(ChangeFeedService changeFeedService, EntityManagerFactory entityManagerFactory) {
+        this.changeFeedService = changeFeedService;
+        this.cache = entityManagerFactory.getCache();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void start() {
+        // Whatever was cached before the head taken here is dropped; later changes come from the feed
+        cursor = changeFeedService.resolveStart(null);
+        cache.evict(Project.class);
+    }
+
+    @Scheduled(initialDelayString = "${projects.cache.invalidate-interval:2s}",
+            fixedDelayString = "${projects.cache.invalidate-interval:2s}")
+    public synchronized void invalidate() {
+        if (cursor == null) {
+            return;
+        }
+        try {
+            ChangeBatchDTO batch;
+            do {
+                batch = changeFeedService.read(cursor, null, ChangeEntityType.PROJECT, BATCH_SIZE);
+                batch.getChanges().forEach(change -> cache.evict(Project.class, change.getEntityId()));
+                cursor = ChangeCursor.decode(batch.getNextCursor());
+            } while (batch.isHasMore());
+        } catch (ChangeCursorExpiredException e) {
+            log.warn("Project cache invalidation fell behind the change feed retention; evicting every project");
+            start();
+        } catch (Exception e) {
+            log.warn("Project cache invalidation failed: {}", e.getMessage());
+        }
+    }
+}
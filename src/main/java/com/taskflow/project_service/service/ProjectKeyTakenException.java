@@ -0,0 +1,18 @@
+package com.taskflow.project_service.service;
+
+import java.util.List;
+
+/** Another project already uses the requested key; answered with 409 and free alternatives. */
+public class ProjectKeyTakenException extends RuntimeException {
+
+    private final List<String> suggestions;
+
+    public ProjectKeyTakenException(String projectKey, List<String> suggestions) {
+        super("Project key " + projectKey + " is already taken");
+        this.suggestions = suggestions;
+    }
+
+    public List<String> getSuggestions() {
+        return suggestions;
+    }
+}
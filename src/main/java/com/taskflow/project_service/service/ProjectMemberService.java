@@ -1,22 +1,48 @@
 package com.taskflow.project_service.service;
 
 
-import com.taskflow.project_service.clients.UserClient;
 import com.taskflow.project_service.dto.AddMemberByEmailRequest;
+import com.taskflow.project_service.dto.BulkAddMembersRequestDTO;
+import com.taskflow.project_service.dto.BulkAddMembersResponseDTO;
+import com.taskflow.project_service.dto.BulkMemberChangeResponseDTO;
+import com.taskflow.project_service.dto.BulkMemberEntryDTO;
+import com.taskflow.project_service.dto.BulkMemberResultDTO;
+import com.taskflow.project_service.dto.BulkRemoveMembersRequestDTO;
+import com.taskflow.project_service.dto.BulkRoleChangeRequestDTO;
 import com.taskflow.project_service.dto.ProjectMemberRequestDTO;
 import com.taskflow.project_service.dto.ProjectMemberResponseDTO;
 import com.taskflow.project_service.dto.UserResponse;
 import com.taskflow.project_service.entities.Project;
 import com.taskflow.project_service.entities.ProjectMember;
+import com.taskflow.project_service.enums.BulkMemberOutcome;
+import com.taskflow.project_service.enums.ChangeEntityType;
+import com.taskflow.project_service.enums.MemberStatus;
 import com.taskflow.project_service.enums.ProjectRole;
 import com.taskflow.project_service.repository.ProjectMemberRepository;
 import com.taskflow.project_service.repository.ProjectRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
 import jakarta.transaction.Transactional;
 
 
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TimeZone;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
@@ -24,114 +50,210 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class ProjectMemberService {
 
+    private static final TimeZone UTC = TimeZone.getTimeZone("UTC");
+
+    // One statement for all listed members; the self-join hands back each row's previous role
+    private static final String BULK_UPDATE_ROLE = "update project_member m set role = ?, updated_at = ? " +
+            "from project_member old where old.id = m.id " +
+            "and m.project_id = ? and m.user_id = any(?) and m.role <> ? " +
+            "returning m.id, m.user_id, m.status, m.joined_at, m.display_name, m.email, old.role as previous_role";
+    private static final String BULK_DELETE = "delete from project_member " +
+            "where project_id = ? and user_id = any(?) returning user_id, role";
+
     private final ProjectMemberRepository projectMemberRepository;
     private final ProjectRepository projectRepository;
-    private final UserClient umsClient;
+    private final UserLookupService userLookupService;
+    private final TransactionTemplate transactionTemplate;
+    private final MembershipIndex membershipIndex;
+    private final ChangeLog changeLog;
+    private final JdbcTemplate jdbcTemplate;
 
 
+    // projects.member_version without loading members; empty for unknown projects
+    public Optional<Long> getMemberVersion(UUID projectId) {
+        return projectRepository.findMemberVersionById(projectId);
+    }
+
+    // One query; names and emails come from the profile snapshot, so no UMS call
     public List<ProjectMemberResponseDTO> getMembersByProject(UUID projectId) {
-        return projectMemberRepository.findByProjectId(projectId).stream()
-                .map(this::mapToResponseDTO)
-                .collect(Collectors.toList());
+        return projectMemberRepository.findResponsesByProjectId(projectId);
     }
 
-    @Transactional
     public ProjectMemberResponseDTO addMemberToProject(UUID projectId, ProjectMemberRequestDTO requestDTO) {
-        Project project = projectRepository.findById(projectId)
-                .orElseThrow(() -> new RuntimeException("Project not found with id: " + projectId));
+        // Profile for the snapshot, fetched before the transaction so the UMS call does not hold a
+        // DB connection; without it the member is stored unsynced and the reconciler fills it in
+        UserResponse user = findUser(requestDTO.getUserId());
 
-        if (projectMemberRepository.findByProjectIdAndUserId(projectId, requestDTO.getUserId()).isPresent()) {
-            throw new RuntimeException("User with id " + requestDTO.getUserId() + " is already a member of this project");
-        }
+        ProjectMember savedMember = transactionTemplate.execute(status -> {
+            Project project = projectRepository.findById(projectId)
+                    .orElseThrow(() -> new RuntimeException("Project not found with id: " + projectId));
 
-        ProjectMember member = ProjectMember.builder()
-                .project(project)
-                .userId(requestDTO.getUserId())
-                .role(requestDTO.getRole())
-                .build();
+            if (projectMemberRepository.findByProjectIdAndUserId(projectId, requestDTO.getUserId()).isPresent()) {
+                throw new RuntimeException("User with id " + requestDTO.getUserId() + " is already a member of this project");
+            }
+
+            ProjectMember member = withProfile(ProjectMember.builder()
+                    .project(project)
+                    .userId(requestDTO.getUserId())
+                    .role(requestDTO.getRole()), user)
+                    .build();
 
-        ProjectMember savedMember = projectMemberRepository.save(member);
+            ProjectMember saved = projectMemberRepository.save(member);
+            recordMembershipChange(projectId, saved.getUserId(), saved.getRole());
+            changeLog.record(memberUpsert(saved));
+            return saved;
+        });
         return mapToResponseDTO(savedMember);
     }
 
-    @Transactional
-    public ProjectMemberResponseDTO addMemberByEmail(UUID projectId, String email, ProjectRole role, String requestingUserEmail, UUID requestingKeycloakId) {
-        // 0. Resolve Requesting User's Local ID
-        UUID resolvedRequestingUserId;
-        try {
-            if (requestingUserEmail == null || "unknown".equalsIgnoreCase(requestingUserEmail)) {
-                // Fallback: Resolve by Keycloak ID
-                System.out.println("DEBUG: Resolving user by Keycloak ID: " + requestingKeycloakId);
-                UserResponse requestingUser = umsClient.getUserByKeycloakId(requestingKeycloakId.toString());
-                resolvedRequestingUserId = requestingUser.getId();
-            } else {
-                // Resolve by Email
-                System.out.println("DEBUG: Resolving user by Email: " + requestingUserEmail);
-                UserResponse requestingUser = umsClient.getUserByEmail(requestingUserEmail);
-                resolvedRequestingUserId = requestingUser.getId();
+    /**
+     * Adds many members in one transaction. Emails are resolved with one batched UMS lookup
+     * before the transaction opens; existing members are found with a single IN query and the
+     * new rows are written with JDBC batch inserts.
+     */
+    public BulkAddMembersResponseDTO addMembersInBulk(UUID projectId, BulkAddMembersRequestDTO requestDTO) {
+        List<BulkMemberEntryDTO> entries = requestDTO.getMembers();
+
+        // 1. Resolve every email-only entry in one go
+        Set<String> emails = entries.stream()
+                .filter(entry -> entry.getUserId() == null && entry.getEmail() != null)
+                .map(BulkMemberEntryDTO::getEmail)
+                .collect(Collectors.toSet());
+        Map<String, UserResponse> usersByEmail = emails.isEmpty() ? Map.of() : userLookupService.getUsersByEmails(emails);
+
+        List<UUID> resolvedUserIds = new ArrayList<>(entries.size());
+        for (BulkMemberEntryDTO entry : entries) {
+            UUID userId = entry.getUserId();
+            if (userId == null && entry.getEmail() != null) {
+                UserResponse user = usersByEmail.get(entry.getEmail());
+                userId = user != null ? user.getId() : null;
             }
-        } catch (Exception e) {
-            throw new RuntimeException("Could not verify requesting user identity: " + e.getMessage());
+            resolvedUserIds.add(userId);
         }
 
-        // 1. Check if requesting user has permission (must be OWNER or ADMIN)
-        ProjectMember requestingMember = projectMemberRepository.findByProjectIdAndUserId(projectId, resolvedRequestingUserId)
-                .orElseThrow(() -> new RuntimeException("You are not a member of this project. ProjectId: " + projectId + ", RequestingUserId (Resolved): " + resolvedRequestingUserId));
+        // 2. Everything below is DB work only
+        return transactionTemplate.execute(status -> {
+            Project project = projectRepository.findById(projectId)
+                    .orElseThrow(() -> new RuntimeException("Project not found with id: " + projectId));
+
+            Set<UUID> candidateIds = resolvedUserIds.stream().filter(Objects::nonNull).collect(Collectors.toSet());
+            Set<UUID> memberIds = new HashSet<>(candidateIds.isEmpty()
+                    ? Set.of()
+                    : projectMemberRepository.findUserIdsByProjectIdAndUserIdIn(projectId, candidateIds));
+
+            List<ProjectMember> newMembers = new ArrayList<>();
+            List<BulkMemberResultDTO> results = new ArrayList<>(entries.size());
+            for (int i = 0; i < entries.size(); i++) {
+                BulkMemberEntryDTO entry = entries.get(i);
+                UUID userId = resolvedUserIds.get(i);
+
+                BulkMemberOutcome outcome;
+                if (userId == null) {
+                    outcome = BulkMemberOutcome.UNKNOWN_USER;
+                } else if (!memberIds.add(userId)) {
+                    // Already in the project, or listed twice in this request
+                    outcome = BulkMemberOutcome.ALREADY_MEMBER;
+                } else {
+                    // Entries given by email come with a profile; those given by id are left
+                    // for the reconciler rather than paying a second UMS lookup here
+                    UserResponse user = entry.getUserId() == null ? usersByEmail.get(entry.getEmail()) : null;
+                    newMembers.add(withProfile(ProjectMember.builder()
+                            .project(project)
+                            .userId(userId)
+                            .role(entry.getRole()), user)
+                            .build());
+                    outcome = BulkMemberOutcome.ADDED;
+                }
+
+                results.add(BulkMemberResultDTO.builder()
+                        .userId(userId)
+                        .email(entry.getEmail())
+                        .role(entry.getRole())
+                        .outcome(outcome)
+                        .build());
+            }
+
+            projectMemberRepository.saveAll(newMembers);
+            if (!newMembers.isEmpty()) {
+                lockMemberships(projectId);
+                membershipIndex.applyAfterCommit(projectId, newMembers.stream()
+                        .collect(Collectors.toMap(ProjectMember::getUserId, ProjectMember::getRole)));
+                changeLog.recordAll(newMembers.stream().map(this::memberUpsert).toList());
+            }
+
+            return BulkAddMembersResponseDTO.builder()
+                    .added(newMembers.size())
+                    .alreadyMember(countOutcome(results, BulkMemberOutcome.ALREADY_MEMBER))
+                    .unknownUser(countOutcome(results, BulkMemberOutcome.UNKNOWN_USER))
+                    .results(results)
+                    .build();
+        });
+    }
+
+    /**
+     * Remote lookups run before the transaction and the response is built from the profile
+     * already fetched, so the transaction (and its pooled connection) only covers DB work.
+     */
+    public ProjectMemberResponseDTO addMemberByEmail(UUID projectId, String email, ProjectRole role, String requestingUserEmail, UUID requestingKeycloakId) {
+        // 0. Resolve Requesting User's Local ID
+        UUID resolvedRequestingUserId = userLookupService.resolveRequestingUserId(requestingUserEmail, requestingKeycloakId);
 
-        if (requestingMember.getRole() != ProjectRole.OWNER && requestingMember.getRole() != ProjectRole.ADMIN) {
+        // 1. Check if requesting user has permission (must be OWNER or ADMIN), served from the membership index
+        ProjectRole requestingRole = membershipIndex.getRole(projectId, resolvedRequestingUserId);
+        if (requestingRole == null) {
+            throw new RuntimeException("You are not a member of this project. ProjectId: " + projectId + ", RequestingUserId (Resolved): " + resolvedRequestingUserId);
+        }
+
+        if (requestingRole != ProjectRole.OWNER && requestingRole != ProjectRole.ADMIN) {
             throw new RuntimeException("Only project owners and admins can add members");
         }
 
         // 2. Fetch user from UMS service using Feign client
-        UserResponse userResponse;
-        // NEW CODE (Reveals the error)
-        try {
-            userResponse = umsClient.getUserByEmail(email);
-        } catch (feign.FeignException e) {
-            // This logs the exact status (e.g., 401, 404, 500) and the response body from UMS
-            System.err.println("Feign Error Status: " + e.status());
-            System.err.println("Feign Error Body: " + e.contentUTF8());
+        UserResponse userResponse = fetchUserByEmail(email);
 
-            if (e.status() == 404) {
-                throw new RuntimeException("User not found in UMS with email: " + email);
-            } else if (e.status() == 401) {
-                throw new RuntimeException("UMS rejected the request (Unauthorized). Check Feign Interceptor.");
-            } else {
-                throw new RuntimeException("UMS Service Error: " + e.status());
+        ProjectMember savedMember = transactionTemplate.execute(status -> {
+            // 3. Check if user is already a member
+            if (projectMemberRepository.findByProjectIdAndUserId(projectId, userResponse.getId()).isPresent()) {
+                throw new RuntimeException("User with email " + email + " is already a member of this project");
             }
-        } catch (Exception e) {
-            e.printStackTrace();
-            throw new RuntimeException("Unexpected error: " + e.getMessage());
-        }
 
-//         3. Check if user is already a member
-        if (projectMemberRepository.findByProjectIdAndUserId(projectId, userResponse.getId()).isPresent()) {
-            throw new RuntimeException("User with email " + email + " is already a member of this project");
-        }
+            // 4. Get project
+            Project project = projectRepository.findById(projectId)
+                    .orElseThrow(() -> new RuntimeException("Project not found with id: " + projectId));
 
-        // 4. Get project
-        Project project = projectRepository.findById(projectId)
-                .orElseThrow(() -> new RuntimeException("Project not found with id: " + projectId));
+            // 5. Create and save new member, with the profile snapshot
+            ProjectMember member = withProfile(ProjectMember.builder()
+                    .project(project)
+                    .userId(userResponse.getId())
+                    .role(role), userResponse)
+                    .build();
 
-        // 5. Create and save new member
-        ProjectMember member = ProjectMember.builder()
-                .project(project)
-                .userId(userResponse.getId())
-                .role(role)
-                .build();
+            ProjectMember saved = projectMemberRepository.save(member);
+            recordMembershipChange(projectId, saved.getUserId(), saved.getRole());
+            changeLog.record(memberUpsert(saved));
+            return saved;
+        });
 
-        ProjectMember savedMember = projectMemberRepository.save(member);
+        // 6. Build the response from the snapshot just stored - no further UMS call
         return mapToResponseDTO(savedMember);
     }
 
 
-    @Transactional
     public ProjectMemberResponseDTO updateMemberRole(UUID projectId, UUID userId, ProjectRole newRole) {
-        ProjectMember member = projectMemberRepository.findByProjectIdAndUserId(projectId, userId)
-                .orElseThrow(() -> new RuntimeException("Member not found in project with id: " + projectId + " and user id: " + userId));
+        ProjectMember updatedMember = transactionTemplate.execute(status -> {
+            ProjectMember member = projectMemberRepository.findByProjectIdAndUserId(projectId, userId)
+                    .orElseThrow(() -> new RuntimeException("Member not found in project with id: " + projectId + " and user id: " + userId));
 
-        member.setRole(newRole);
-        ProjectMember updatedMember = projectMemberRepository.save(member);
+            ProjectRole previousRole = member.getRole();
+            member.setRole(newRole);
+            ProjectMember saved = projectMemberRepository.save(member);
+            recordMembershipChange(projectId, userId, saved.getStatus() == MemberStatus.ACTIVE ? newRole : null);
+            if (previousRole == ProjectRole.OWNER && newRole != ProjectRole.OWNER) {
+                requireOwner(projectId);
+            }
+            changeLog.record(memberUpsert(saved));
+            return saved;
+        });
         return mapToResponseDTO(updatedMember);
     }
 
@@ -141,23 +263,178 @@ public class ProjectMemberService {
                 .orElseThrow(() -> new RuntimeException("Member not found in project with id: " + projectId + " and user id: " + userId));
 
         projectMemberRepository.delete(member);
+        recordMembershipChange(projectId, userId, null);
+        if (member.getRole() == ProjectRole.OWNER) {
+            requireOwner(projectId);
+        }
+        changeLog.record(ChangeLog.Change.delete(ChangeEntityType.MEMBER, projectId, userId));
+    }
+
+    /**
+     * Gives many members the same role with a single UPDATE. Members that already have the role
+     * are skipped; demoting the last active owner fails the whole request.
+     */
+    public BulkMemberChangeResponseDTO updateMemberRoles(UUID projectId, BulkRoleChangeRequestDTO requestDTO) {
+        ProjectRole newRole = requestDTO.getRole();
+        Set<UUID> userIds = new LinkedHashSet<>(requestDTO.getUserIds());
+        Timestamp now = Timestamp.from(Instant.now());
+
+        return transactionTemplate.execute(status -> {
+            lockMemberships(projectId);
+            List<RoleChange> changes = jdbcTemplate.query(connection -> {
+                PreparedStatement statement = connection.prepareStatement(BULK_UPDATE_ROLE);
+                statement.setString(1, newRole.name());
+                // Same convention as Hibernate's writes (hibernate.jdbc.time_zone=UTC)
+                statement.setTimestamp(2, now, Calendar.getInstance(UTC));
+                statement.setObject(3, projectId);
+                statement.setArray(4, connection.createArrayOf("uuid", userIds.toArray()));
+                statement.setString(5, newRole.name());
+                return statement;
+            }, (rs, rowNum) -> {
+                Timestamp joinedAt = rs.getTimestamp("joined_at", Calendar.getInstance(UTC));
+                return new RoleChange(ProjectMemberResponseDTO.builder()
+                        .id(rs.getObject("id", UUID.class))
+                        .userId(rs.getObject("user_id", UUID.class))
+                        .projectId(projectId)
+                        .role(newRole)
+                        .status(MemberStatus.valueOf(rs.getString("status")))
+                        .joinedAt(joinedAt == null ? null : joinedAt.toLocalDateTime())
+                        .name(rs.getString("display_name"))
+                        .email(rs.getString("email"))
+                        .build(), ProjectRole.valueOf(rs.getString("previous_role")));
+            });
+            if (changes.stream().anyMatch(change -> change.previousRole() == ProjectRole.OWNER)) {
+                requireOwner(projectId);
+            }
+
+            Map<UUID, ProjectRole> indexChanges = new HashMap<>();
+            changes.forEach(change -> indexChanges.put(change.member().getUserId(),
+                    change.member().getStatus() == MemberStatus.ACTIVE ? newRole : null));
+            membershipIndex.applyAfterCommit(projectId, indexChanges);
+            changeLog.recordAll(changes.stream()
+                    .map(change -> ChangeLog.Change.upsert(ChangeEntityType.MEMBER, projectId,
+                            change.member().getUserId(), change.member()))
+                    .toList());
+            return bulkChangeResponse(changes.size(), userIds.size());
+        });
+    }
+
+    /** Removes many members with a single DELETE; removing the last active owner fails the whole request. */
+    public BulkMemberChangeResponseDTO removeMembersFromProject(UUID projectId, BulkRemoveMembersRequestDTO requestDTO) {
+        Set<UUID> userIds = new LinkedHashSet<>(requestDTO.getUserIds());
+
+        return transactionTemplate.execute(status -> {
+            lockMemberships(projectId);
+            Map<UUID, ProjectRole> removed = new LinkedHashMap<>();
+            jdbcTemplate.query(connection -> {
+                PreparedStatement statement = connection.prepareStatement(BULK_DELETE);
+                statement.setObject(1, projectId);
+                statement.setArray(2, connection.createArrayOf("uuid", userIds.toArray()));
+                return statement;
+            }, rs -> {
+                removed.put(rs.getObject("user_id", UUID.class), ProjectRole.valueOf(rs.getString("role")));
+            });
+            if (removed.containsValue(ProjectRole.OWNER)) {
+                requireOwner(projectId);
+            }
+
+            Map<UUID, ProjectRole> indexChanges = new HashMap<>();
+            removed.keySet().forEach(userId -> indexChanges.put(userId, null));
+            membershipIndex.applyAfterCommit(projectId, indexChanges);
+            changeLog.recordAll(removed.keySet().stream()
+                    .map(userId -> ChangeLog.Change.delete(ChangeEntityType.MEMBER, projectId, userId))
+                    .toList());
+            return bulkChangeResponse(removed.size(), userIds.size());
+        });
+    }
+
+    // Bumps member_version up front: the row lock it takes serializes membership writes to the
+    // project, so the owner check below always sees the writes committed before it
+    private void lockMemberships(UUID projectId) {
+        if (projectRepository.incrementMemberVersion(projectId) == 0) {
+            throw new RuntimeException("Project not found with id: " + projectId);
+        }
     }
 
-    private ProjectMemberResponseDTO mapToResponseDTO(ProjectMember member) {
-        String name = null;
-        String email = null;
+    // Must run after member_version was bumped in this transaction (see lockMemberships); throwing rolls the change back
+    private void requireOwner(UUID projectId) {
+        if (!projectMemberRepository.existsByProjectIdAndRole(projectId, ProjectRole.OWNER, MemberStatus.ACTIVE)) {
+            throw new RuntimeException("A project must keep at least one owner. ProjectId: " + projectId);
+        }
+    }
+
+    private static BulkMemberChangeResponseDTO bulkChangeResponse(int affected, int requested) {
+        return BulkMemberChangeResponseDTO.builder()
+                .affected(affected)
+                .skipped(requested - affected)
+                .build();
+    }
+
+    // Bumps the project's member version in the current transaction and updates the local
+    // membership index once it commits; a null role removes the user from the index. The bump also
+    // settles whether the project still exists: the project loaded before may come from the cache.
+    private void recordMembershipChange(UUID projectId, UUID userId, ProjectRole role) {
+        lockMemberships(projectId);
+        Map<UUID, ProjectRole> change = new HashMap<>();
+        change.put(userId, role);
+        membershipIndex.applyAfterCommit(projectId, change);
+    }
+
+    private record RoleChange(ProjectMemberResponseDTO member, ProjectRole previousRole) {
+    }
+
+    private UserResponse fetchUserByEmail(String email) {
+        // NEW CODE (Reveals the error)
         try {
-            UserResponse user = umsClient.getUserById(member.getUserId());
-            if (user != null) {
-                name = user.getName();
-                email = user.getEmail();
+            return userLookupService.getUserByEmail(email);
+        } catch (feign.FeignException e) {
+            // This logs the exact status (e.g., 401, 404, 500) and the response body from UMS
+            System.err.println("Feign Error Status: " + e.status());
+            System.err.println("Feign Error Body: " + e.contentUTF8());
+
+            if (e.status() == 404) {
+                throw new RuntimeException("User not found in UMS with email: " + email);
+            } else if (e.status() == 401) {
+                throw new RuntimeException("UMS rejected the request (Unauthorized). Check Feign Interceptor.");
+            } else {
+                throw new RuntimeException("UMS Service Error: " + e.status());
             }
         } catch (Exception e) {
-            // Log error but verify flow continues
-            System.err.println("Failed to fetch user details for member: " + member.getUserId());
-            e.printStackTrace(); // Added to see the actual error
+            e.printStackTrace();
+            throw new RuntimeException("Unexpected error: " + e.getMessage());
+        }
+    }
+
+    private static int countOutcome(List<BulkMemberResultDTO> results, BulkMemberOutcome outcome) {
+        return (int) results.stream().filter(result -> result.getOutcome() == outcome).count();
+    }
+
+    private UserResponse findUser(UUID userId) {
+        try {
+            return userLookupService.getUserById(userId);
+        } catch (Exception e) {
+            System.err.println("Failed to fetch user details for member: " + userId);
+            return null;
         }
+    }
+
+    private static ProjectMember.ProjectMemberBuilder withProfile(ProjectMember.ProjectMemberBuilder member, UserResponse user) {
+        if (user == null) {
+            return member;
+        }
+        return member
+                .displayName(user.getName())
+                .email(user.getEmail())
+                .profileSyncedAt(LocalDateTime.now());
+    }
+
+    // Member events are keyed by user id, the id clients address members with
+    private ChangeLog.Change memberUpsert(ProjectMember member) {
+        return ChangeLog.Change.upsert(ChangeEntityType.MEMBER, member.getProject().getId(), member.getUserId(),
+                mapToResponseDTO(member));
+    }
 
+    ProjectMemberResponseDTO mapToResponseDTO(ProjectMember member) {
         return ProjectMemberResponseDTO.builder()
                 .id(member.getId())
                 .userId(member.getUserId())
@@ -165,8 +442,8 @@ public class ProjectMemberService {
                 .role(member.getRole())
                 .status(member.getStatus())
                 .joinedAt(member.getJoinedAt())
-                .name(name)
-                .email(email)
+                .name(member.getDisplayName())
+                .email(member.getEmail())
                 .build();
     }
 }
@@ -0,0 +1,11 @@
+package com.taskflow.project_service.service;
+
+import java.util.UUID;
+
+/** No live project has the given id; answered with 404 by the project endpoints that look one up. */
+public class ProjectNotFoundException extends RuntimeException {
+
+    public ProjectNotFoundException(UUID projectId) {
+        super("Project not found with id: " + projectId);
+    }
+}
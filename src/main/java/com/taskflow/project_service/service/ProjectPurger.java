@@ -0,0 +1,163 @@
+package com.taskflow.project_service.service;
+
+import com.taskflow.project_service.dto.ProjectPurgeStatusDTO;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Removes soft-deleted projects (see {@link com.taskflow.project_service.entities.Project}) for good.
+ * <p>
+ * Every {@code projects.purge.interval} it takes up to {@code max-projects-per-run} deleted
+ * projects, oldest deletion first, and clears their transitions, statuses and members with
+ * set-based DELETEs of at most {@code batch-size} rows each; the project row goes last. Every
+ * statement commits on its own, so no lock is held for longer than one batch, however large the
+ * project. Rows locked by another replica's purge are skipped, so replicas can purge side by side.
+ * <p>
+ * Purged rows are counted per table in {@code projects.purge.rows}, whose rate is the purge
+ * throughput; {@link #getStatus()} reports the backlog and the last run.
+ */
+@Component
+@Slf4j
+public class ProjectPurger {
+
+    private static final String FIND_DELETED =
+            "SELECT project_id FROM projects WHERE deleted_at IS NOT NULL ORDER BY deleted_at LIMIT ?";
+    private static final String COUNT_DELETED = "SELECT count(*) FROM projects WHERE deleted_at IS NOT NULL";
+    private static final String DELETE_PROJECT = "DELETE FROM projects WHERE project_id = ? AND deleted_at IS NOT NULL";
+
+    // In dependency order: transitions reference statuses, and all three reference the project
+    private static final List<ChildTable> CHILD_TABLES = List.of(
+            ChildTable.of("workflow_transition", "transition_id"),
+            ChildTable.of("workflow_status", "status_id"),
+            ChildTable.of("project_member", "id"));
+
+    private final JdbcTemplate jdbcTemplate;
+    private final MeterRegistry meterRegistry;
+    private final int batchSize;
+    private final int maxProjectsPerRun;
+    private final AtomicLong pending = new AtomicLong();
+    private volatile boolean running;
+    private volatile LocalDateTime lastRunStartedAt;
+    private volatile LocalDateTime lastRunFinishedAt;
+    private volatile int lastRunProjects;
+    private volatile long lastRunRows;
+    private volatile double lastRunRowsPerSecond;
+
+    public ProjectPurger(JdbcTemplate jdbcTemplate,
+                         MeterRegistry meterRegistry,
+                         @Value("${projects.purge.batch-size:1000}") int batchSize,
+                         @Value("${projects.purge.max-projects-per-run:10}") int maxProjectsPerRun) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.meterRegistry = meterRegistry;
+        this.batchSize = batchSize;
+        this.maxProjectsPerRun = maxProjectsPerRun;
+        Gauge.builder("projects.purge.pending", pending, AtomicLong::get)
+                .description("Deleted projects not purged yet, as of the last purge run")
+                .register(meterRegistry);
+    }
+
+    private record ChildTable(String name, String deleteBatchSql) {
+
+        static ChildTable of(String name, String key) {
+            return new ChildTable(name, "DELETE FROM " + name + " WHERE " + key + " IN (SELECT " + key + " FROM " + name +
+                    " WHERE project_id = ? LIMIT ? FOR UPDATE SKIP LOCKED)");
+        }
+    }
+
+    @Scheduled(initialDelayString = "${projects.purge.interval:10s}",
+            fixedDelayString = "${projects.purge.interval:10s}")
+    public void scheduledPurge() {
+        try {
+            purge();
+        } catch (Exception e) {
+            log.warn("Project purge failed: {}", e.getMessage());
+        }
+    }
+
+    /** Runs one purge pass and returns the number of projects removed. */
+    public synchronized int purge() {
+        List<UUID> projectIds = jdbcTemplate.queryForList(FIND_DELETED, UUID.class, maxProjectsPerRun);
+        if (projectIds.isEmpty()) {
+            pending.set(0);
+            return 0;
+        }
+
+        running = true;
+        lastRunStartedAt = LocalDateTime.now();
+        long started = System.nanoTime();
+        int projects = 0;
+        long rows = 0;
+        try {
+            for (UUID projectId : projectIds) {
+                try {
+                    rows += purge(projectId);
+                    projects++;
+                } catch (DataAccessException e) {
+                    // Left for the next run; what was deleted so far stays deleted
+                    log.warn("Could not purge project {}: {}", projectId, e.getMessage());
+                }
+            }
+        } finally {
+            double seconds = (System.nanoTime() - started) / 1e9;
+            lastRunProjects = projects;
+            lastRunRows = rows;
+            lastRunRowsPerSecond = seconds > 0 ? rows / seconds : 0;
+            lastRunFinishedAt = LocalDateTime.now();
+            running = false;
+            pending.set(countPending());
+        }
+        log.info("Purged {} deleted projects ({} rows, {} rows/s)", projects, rows, Math.round(lastRunRowsPerSecond));
+        return projects;
+    }
+
+    public ProjectPurgeStatusDTO getStatus() {
+        return ProjectPurgeStatusDTO.builder()
+                .pendingProjects(countPending())
+                .running(running)
+                .lastRunStartedAt(lastRunStartedAt)
+                .lastRunFinishedAt(lastRunFinishedAt)
+                .lastRunProjectsPurged(lastRunProjects)
+                .lastRunRowsPurged(lastRunRows)
+                .lastRunRowsPerSecond(lastRunRowsPerSecond)
+                .build();
+    }
+
+    // Outside a transaction, so every statement commits (and releases its locks) on its own
+    private long purge(UUID projectId) {
+        long rows = 0;
+        for (ChildTable table : CHILD_TABLES) {
+            int deleted;
+            while ((deleted = jdbcTemplate.update(table.deleteBatchSql(), projectId, batchSize)) > 0) {
+                rowsCounter(table.name()).increment(deleted);
+                rows += deleted;
+            }
+        }
+        int deleted = jdbcTemplate.update(DELETE_PROJECT, projectId);
+        rowsCounter("projects").increment(deleted);
+        return rows + deleted;
+    }
+
+    private long countPending() {
+        Long count = jdbcTemplate.queryForObject(COUNT_DELETED, Long.class);
+        return count == null ? 0 : count;
+    }
+
+    private Counter rowsCounter(String table) {
+        return Counter.builder("projects.purge.rows")
+                .description("Rows removed by the purge of deleted projects")
+                .tag("table", table)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,290 @@
+package com.taskflow.project_service.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taskflow.project_service.dto.ChangeBatchDTO;
+import com.taskflow.project_service.dto.ChangeEventDTO;
+import com.taskflow.project_service.dto.ProjectResponseDTO;
+import com.taskflow.project_service.enums.ChangeEntityType;
+import com.taskflow.project_service.enums.ChangeType;
+import com.taskflow.project_service.enums.ProjectMatch;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.io.IOException;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * In-memory prefix index over project keys and names, for keystroke autocomplete, and the exact
+ * set of project keys in use, for key availability checks.
+ * <p>
+ * Terms are upper-cased: the key, the full name and every further word of the name. They live in
+ * a sorted map keyed by {@code term + '\0' + projectId}, so the projects matching a prefix are one
+ * range of it. The index is loaded once the application is ready, updated right after commit by
+ * {@link ProjectService} writes on this replica, and catches up on writes made elsewhere by
+ * reading PROJECT events from the change feed every {@code projects.search.refresh-interval}.
+ */
+@Component
+@Slf4j
+public class ProjectSearchIndex {
+
+    private static final String LOAD_SQL = "SELECT project_id, name, project_key, type, version FROM projects WHERE deleted_at IS NULL";
+    private static final int LOAD_FETCH_SIZE = 1000;
+    private static final int REFRESH_BATCH_SIZE = 1000;
+    private static final char SEPARATOR = '\0';
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ChangeFeedService changeFeedService;
+    private final ObjectMapper objectMapper;
+    private final ConcurrentSkipListMap<String, Posting> terms = new ConcurrentSkipListMap<>();
+    private final Map<UUID, IndexedProject> projects = new ConcurrentHashMap<>();
+    private final Map<String, UUID> projectIdsByKey = new ConcurrentHashMap<>();
+    private volatile boolean ready;
+    private ChangeCursor cursor;
+
+    public ProjectSearchIndex(JdbcTemplate jdbcTemplate, ChangeFeedService changeFeedService, ObjectMapper objectMapper) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.changeFeedService = changeFeedService;
+        this.objectMapper = objectMapper;
+    }
+
+    /** A project as the index knows it. */
+    public record IndexedProject(UUID id, String name, String projectKey, String type, long version) {
+    }
+
+    /** A project whose key or name matched a prefix, with its best match. */
+    public record Candidate(IndexedProject project, ProjectMatch match) {
+    }
+
+    // False until the initial load has finished; callers search the database meanwhile
+    public boolean isReady() {
+        return ready;
+    }
+
+    /** Prefix matches, best first; {@code complete} is false when the walk stopped at the candidate limit. */
+    public record Candidates(List<Candidate> candidates, boolean complete) {
+    }
+
+    /**
+     * Projects matching {@code prefix} (already upper-cased), best match first and then by key,
+     * looking at no more than {@code maxCandidates} projects. Terms are walked in alphabetical
+     * order, so when the walk is cut off the result may miss better matches, and the caller's
+     * projects; callers rank those with {@link #match} instead.
+     */
+    public Candidates findByPrefix(String prefix, int maxCandidates) {
+        ConcurrentNavigableMap<String, Posting> range = terms.subMap(prefix, true, prefix + Character.MAX_VALUE, false);
+        Map<UUID, ProjectMatch> best = new HashMap<>();
+        boolean complete = true;
+        for (Map.Entry<String, Posting> entry : range.entrySet()) {
+            Posting posting = entry.getValue();
+            if (best.size() >= maxCandidates && !best.containsKey(posting.projectId())) {
+                complete = false;
+                break;
+            }
+            ProjectMatch match = posting.match();
+            if (match == ProjectMatch.KEY_PREFIX && entry.getKey().length() == prefix.length() + 1 + 36) {
+                match = ProjectMatch.KEY_EXACT; // term + separator + UUID: the term is the prefix itself
+            }
+            best.merge(posting.projectId(), match, (a, b) -> a.compareTo(b) <= 0 ? a : b);
+        }
+
+        List<Candidate> candidates = new ArrayList<>(best.size());
+        best.forEach((projectId, match) -> {
+            IndexedProject project = projects.get(projectId);
+            if (project != null) {
+                candidates.add(new Candidate(project, match));
+            }
+        });
+        sort(candidates);
+        return new Candidates(candidates, complete);
+    }
+
+    /** How the given projects match {@code prefix} (already upper-cased), best first; non-matching ones are left out. */
+    public List<Candidate> match(Collection<UUID> projectIds, String prefix) {
+        List<Candidate> candidates = new ArrayList<>();
+        for (UUID projectId : projectIds) {
+            IndexedProject project = projects.get(projectId);
+            if (project == null) {
+                continue;
+            }
+            ProjectMatch best = null;
+            for (Map.Entry<String, ProjectMatch> term : termsOf(project).entrySet()) {
+                if (term.getKey().startsWith(prefix)) {
+                    ProjectMatch match = term.getValue() == ProjectMatch.KEY_PREFIX && term.getKey().equals(prefix)
+                            ? ProjectMatch.KEY_EXACT : term.getValue();
+                    best = best == null || match.compareTo(best) < 0 ? match : best;
+                }
+            }
+            if (best != null) {
+                candidates.add(new Candidate(project, best));
+            }
+        }
+        sort(candidates);
+        return candidates;
+    }
+
+    /** Whether a project uses {@code projectKey} (already upper-cased). Only meaningful once {@link #isReady()}. */
+    public boolean isKeyTaken(String projectKey) {
+        return projectIdsByKey.containsKey(projectKey);
+    }
+
+    /** Indexes a created or updated project once the current transaction commits. */
+    public void putAfterCommit(ProjectResponseDTO project) {
+        IndexedProject indexed = new IndexedProject(project.getId(), project.getName(), project.getProjectKey(),
+                project.getType(), project.getVersion() == null ? 0 : project.getVersion());
+        runAfterCommit(() -> put(indexed));
+    }
+
+    public void removeAfterCommit(UUID projectId) {
+        runAfterCommit(() -> remove(projectId));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        // Events from the head taken here on are replayed after the load; applying one twice is harmless
+        ChangeCursor start = changeFeedService.resolveStart(null);
+        terms.clear();
+        projects.clear();
+        projectIdsByKey.clear();
+        jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(LOAD_SQL,
+                    ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            statement.setFetchSize(LOAD_FETCH_SIZE);
+            return statement;
+        }, rs -> {
+            put(new IndexedProject(rs.getObject("project_id", UUID.class), rs.getString("name"),
+                    rs.getString("project_key"), rs.getString("type"), rs.getLong("version")));
+        });
+        synchronized (this) {
+            cursor = start;
+        }
+        ready = true;
+        log.info("Project search index loaded with {} projects", projects.size());
+    }
+
+    @Scheduled(initialDelayString = "${projects.search.refresh-interval:2s}",
+            fixedDelayString = "${projects.search.refresh-interval:2s}")
+    public synchronized void refresh() {
+        if (!ready) {
+            return;
+        }
+        try {
+            ChangeBatchDTO batch;
+            do {
+                batch = changeFeedService.read(cursor, null, ChangeEntityType.PROJECT, REFRESH_BATCH_SIZE);
+                batch.getChanges().forEach(this::apply);
+                cursor = ChangeCursor.decode(batch.getNextCursor());
+            } while (batch.isHasMore());
+        } catch (ChangeCursorExpiredException e) {
+            log.warn("Project search index fell behind the change feed retention; reloading");
+            ready = false;
+            load();
+        } catch (Exception e) {
+            log.warn("Project search index refresh failed: {}", e.getMessage());
+        }
+    }
+
+    private void apply(ChangeEventDTO change) {
+        if (change.getChangeType() == ChangeType.DELETE) {
+            remove(change.getEntityId());
+            return;
+        }
+        try {
+            JsonNode payload = objectMapper.readTree(change.getPayload());
+            put(new IndexedProject(change.getEntityId(), payload.path("name").asText(null),
+                    payload.path("projectKey").asText(null), payload.path("type").asText(null),
+                    payload.path("version").asLong()));
+        } catch (IOException e) {
+            log.warn("Unreadable project change {}: {}", change.getCursor(), e.getMessage());
+        }
+    }
+
+    private void put(IndexedProject project) {
+        projects.compute(project.id(), (id, current) -> {
+            // Change events can be older than what a local write already put here
+            if (current != null && current.version() > project.version()) {
+                return current;
+            }
+            if (current != null) {
+                unindex(current);
+            }
+            termsOf(project).forEach((term, match) -> terms.put(term + SEPARATOR + id, new Posting(id, match)));
+            if (project.projectKey() != null) {
+                projectIdsByKey.put(project.projectKey().toUpperCase(Locale.ROOT), id);
+            }
+            return project;
+        });
+    }
+
+    private void remove(UUID projectId) {
+        projects.computeIfPresent(projectId, (id, current) -> {
+            unindex(current);
+            return null;
+        });
+    }
+
+    private void unindex(IndexedProject project) {
+        termsOf(project).forEach((term, match) -> terms.remove(term + SEPARATOR + project.id()));
+        if (project.projectKey() != null) {
+            // Another project may have taken the key over already
+            projectIdsByKey.remove(project.projectKey().toUpperCase(Locale.ROOT), project.id());
+        }
+    }
+
+    // Term -> how a prefix of it matches; the key wins over a name that happens to be equal
+    private static Map<String, ProjectMatch> termsOf(IndexedProject project) {
+        Map<String, ProjectMatch> result = new HashMap<>();
+        if (project.name() != null) {
+            String name = project.name().toUpperCase(Locale.ROOT);
+            Set<String> words = new LinkedHashSet<>(List.of(name.split("[^\\p{L}\\p{N}]+")));
+            words.remove("");
+            words.forEach(word -> result.put(word, ProjectMatch.WORD_PREFIX));
+            result.put(name, ProjectMatch.NAME_PREFIX);
+        }
+        if (project.projectKey() != null) {
+            result.put(project.projectKey().toUpperCase(Locale.ROOT), ProjectMatch.KEY_PREFIX);
+        }
+        return result;
+    }
+
+    private static void sort(List<Candidate> candidates) {
+        candidates.sort((a, b) -> a.match() != b.match()
+                ? a.match().compareTo(b.match())
+                : a.project().projectKey().compareTo(b.project().projectKey()));
+    }
+
+    private static void runAfterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    private record Posting(UUID projectId, ProjectMatch match) {
+    }
+}
@@ -0,0 +1,168 @@
+package com.taskflow.project_service.service;
+
+import com.taskflow.project_service.dto.ProjectSearchHitDTO;
+import com.taskflow.project_service.enums.MemberStatus;
+import com.taskflow.project_service.enums.ProjectMatch;
+import com.taskflow.project_service.enums.ProjectRole;
+import com.taskflow.project_service.repository.ProjectMemberRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Project search restricted to the caller's active memberships, ranked by {@link ProjectMatch}.
+ * <p>
+ * Key, name and name-word prefixes are answered from {@link ProjectSearchIndex}, with roles from
+ * {@link MembershipIndex} (or one lookup of the caller's memberships for broad prefixes). When
+ * more projects match than {@code projects.search.max-candidates}, the caller's own projects are
+ * ranked against the prefix instead, so the cut-off never hides them. Only when the prefix index
+ * finds nothing the caller can see (a typo or a fragment from the middle of a word) and the query
+ * has at least three characters does it fall back to PostgreSQL, where trigram indexes serve
+ * substring and similarity matches. The database also answers everything while the index is still
+ * loading.
+ */
+@Service
+public class ProjectSearchService {
+
+    private static final int DEFAULT_LIMIT = 10;
+    private static final int MAX_LIMIT = 50;
+    private static final int MIN_FUZZY_LENGTH = 3;
+
+    // Parameters: exact key, key prefix, name prefix, word prefix, user, key fragment, name fragment,
+    // similarity (filter), similarity (order), limit
+    private static final String SEARCH_SQL =
+            "SELECT p.project_id, p.name, p.project_key, p.type, m.role, " +
+            "CASE WHEN p.project_key = ? THEN 0 WHEN p.project_key LIKE ? THEN 1 " +
+            "WHEN upper(p.name) LIKE ? THEN 2 WHEN upper(p.name) LIKE ? THEN 3 ELSE 4 END AS rank " +
+            "FROM project_member m JOIN projects p ON p.project_id = m.project_id " +
+            "WHERE m.user_id = ? AND m.status = 'ACTIVE' AND p.deleted_at IS NULL " +
+            "AND (p.project_key LIKE ? OR p.name ILIKE ? OR p.name % ?) " +
+            "ORDER BY rank, similarity(p.name, ?) DESC, p.project_key LIMIT ?";
+
+    private final ProjectSearchIndex projectSearchIndex;
+    private final MembershipIndex membershipIndex;
+    private final ProjectMemberRepository projectMemberRepository;
+    private final UserLookupService userLookupService;
+    private final JdbcTemplate jdbcTemplate;
+    private final int maxCandidates;
+
+    public ProjectSearchService(ProjectSearchIndex projectSearchIndex,
+                                MembershipIndex membershipIndex,
+                                ProjectMemberRepository projectMemberRepository,
+                                UserLookupService userLookupService,
+                                JdbcTemplate jdbcTemplate,
+                                @Value("${projects.search.max-candidates:2000}") int maxCandidates) {
+        this.projectSearchIndex = projectSearchIndex;
+        this.membershipIndex = membershipIndex;
+        this.projectMemberRepository = projectMemberRepository;
+        this.userLookupService = userLookupService;
+        this.jdbcTemplate = jdbcTemplate;
+        this.maxCandidates = maxCandidates;
+    }
+
+    public List<ProjectSearchHitDTO> search(String query, Integer limit, String requestingUserEmail, UUID requestingKeycloakId) {
+        if (query == null || query.isBlank()) {
+            throw new RuntimeException("Search query must not be empty");
+        }
+        String q = query.trim().toUpperCase(Locale.ROOT);
+        int pageSize = limit == null ? DEFAULT_LIMIT : Math.max(1, Math.min(limit, MAX_LIMIT));
+        UUID userId = userLookupService.resolveRequestingUserId(requestingUserEmail, requestingKeycloakId);
+
+        if (!projectSearchIndex.isReady()) {
+            return searchDatabase(q, userId, pageSize);
+        }
+        List<ProjectSearchHitDTO> hits = searchIndex(q, userId, pageSize);
+        if (hits.isEmpty() && q.length() >= MIN_FUZZY_LENGTH) {
+            return searchDatabase(q, userId, pageSize);
+        }
+        return hits;
+    }
+
+    private List<ProjectSearchHitDTO> searchIndex(String q, UUID userId, int pageSize) {
+        ProjectSearchIndex.Candidates found = projectSearchIndex.findByPrefix(q, maxCandidates);
+        List<ProjectSearchHitDTO> hits = new ArrayList<>(pageSize);
+        if (!found.complete()) {
+            // Too many projects match (a short prefix on a large tenant) to rank them all: rank the
+            // caller's own projects against the prefix instead, so none of them is cut off
+            Map<UUID, ProjectRole> memberships = findMemberships(userId);
+            addHits(hits, projectSearchIndex.match(memberships.keySet(), q), memberships, pageSize);
+            return hits;
+        }
+        List<ProjectSearchIndex.Candidate> candidates = found.candidates();
+
+        // The best candidates are checked against the (usually warm) membership index; when they do
+        // not fill the page, one lookup of all the caller's memberships settles the rest
+        int firstChunk = Math.min(candidates.size(), pageSize * 4);
+        Map<UUID, ProjectRole> roles = membershipIndex.getRoles(userId,
+                candidates.subList(0, firstChunk).stream().map(candidate -> candidate.project().id()).toList());
+        addHits(hits, candidates.subList(0, firstChunk), roles, pageSize);
+        if (hits.size() < pageSize && firstChunk < candidates.size()) {
+            addHits(hits, candidates.subList(firstChunk, candidates.size()), findMemberships(userId), pageSize);
+        }
+        return hits;
+    }
+
+    private Map<UUID, ProjectRole> findMemberships(UUID userId) {
+        Map<UUID, ProjectRole> memberships = new HashMap<>();
+        for (Object[] row : projectMemberRepository.findRolesByUserId(userId, MemberStatus.ACTIVE)) {
+            memberships.put((UUID) row[0], (ProjectRole) row[1]);
+        }
+        return memberships;
+    }
+
+    private static void addHits(List<ProjectSearchHitDTO> hits, List<ProjectSearchIndex.Candidate> candidates,
+                                Map<UUID, ProjectRole> roles, int pageSize) {
+        for (ProjectSearchIndex.Candidate candidate : candidates) {
+            if (hits.size() >= pageSize) {
+                return;
+            }
+            ProjectRole role = roles.get(candidate.project().id());
+            if (role != null) {
+                ProjectSearchIndex.IndexedProject project = candidate.project();
+                hits.add(ProjectSearchHitDTO.builder()
+                        .id(project.id())
+                        .name(project.name())
+                        .projectKey(project.projectKey())
+                        .type(project.type())
+                        .role(role)
+                        .match(candidate.match())
+                        .build());
+            }
+        }
+    }
+
+    private List<ProjectSearchHitDTO> searchDatabase(String q, UUID userId, int pageSize) {
+        String literal = escapeLike(q);
+        return jdbcTemplate.query(SEARCH_SQL, (rs, rowNum) -> ProjectSearchHitDTO.builder()
+                        .id(rs.getObject("project_id", UUID.class))
+                        .name(rs.getString("name"))
+                        .projectKey(rs.getString("project_key"))
+                        .type(rs.getString("type"))
+                        .role(ProjectRole.valueOf(rs.getString("role")))
+                        .match(databaseMatch(rs.getInt("rank")))
+                        .build(),
+                q, literal + "%", literal + "%", "% " + literal + "%", userId,
+                "%" + literal + "%", "%" + literal + "%", q, q, pageSize);
+    }
+
+    private static ProjectMatch databaseMatch(int rank) {
+        return switch (rank) {
+            case 0 -> ProjectMatch.KEY_EXACT;
+            case 1 -> ProjectMatch.KEY_PREFIX;
+            case 2 -> ProjectMatch.NAME_PREFIX;
+            case 3 -> ProjectMatch.WORD_PREFIX;
+            default -> ProjectMatch.FUZZY;
+        };
+    }
+
+    private static String escapeLike(String value) {
+        return value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+}
@@ -1,27 +1,57 @@
 package com.taskflow.project_service.service;
 
+import com.taskflow.project_service.dto.ProjectBatchResponseDTO;
+import com.taskflow.project_service.dto.ProjectKeyAvailabilityDTO;
+import com.taskflow.project_service.dto.ProjectMemberResponseDTO;
 import com.taskflow.project_service.dto.ProjectRequestDTO;
 import com.taskflow.project_service.dto.ProjectResponseDTO;
+import com.taskflow.project_service.dto.ProjectWithStatusesDTO;
+import com.taskflow.project_service.dto.WorkFlowStatusMoveRequestDTO;
+import com.taskflow.project_service.dto.WorkFlowStatusRequestDTO;
 import com.taskflow.project_service.dto.WorkFlowStatusResponseDTO;
 import com.taskflow.project_service.entities.Project;
 import com.taskflow.project_service.entities.WorkFlowStatus;
+import com.taskflow.project_service.enums.ChangeEntityType;
 import com.taskflow.project_service.enums.DefaultWorkflowStatus;
 import com.taskflow.project_service.enums.ProjectRole;
 import com.taskflow.project_service.repository.ProjectMemberRepository;
 import com.taskflow.project_service.entities.ProjectMember;
 import com.taskflow.project_service.repository.ProjectRepository;
 import com.taskflow.project_service.repository.WorkFlowStatusRepository;
+import com.taskflow.project_service.dto.MyProjectResponseDTO;
+import com.taskflow.project_service.dto.PageResponseDTO;
+import com.taskflow.project_service.enums.MemberStatus;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Calendar;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.TimeZone;
 import java.util.UUID;
 
         
 
 import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
@@ -31,20 +61,201 @@ public class ProjectService {
     private final ProjectRepository projectRepository;
     private final WorkFlowStatusRepository workFlowStatusRepository;
     private final ProjectMemberRepository projectMemberRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final UserLookupService userLookupService;
+    private final WorkflowStatusCache workflowStatusCache;
+    private final ChangeLog changeLog;
+    private final ProjectSearchIndex projectSearchIndex;
+    private final MembershipIndex membershipIndex;
+    private final TransactionTemplate transactionTemplate;
 
-    public List<ProjectResponseDTO> getAllProjects() {
-        return projectRepository.findAll().stream()
-                .map(this::mapToResponseDTO)
-                .collect(Collectors.toList());
+    // Distance between neighbouring status positions after a spread (see WorkFlowStatus.orderIndex)
+    public static final int STATUS_ORDER_GAP = 1024;
+
+    private static final int DEFAULT_PAGE_LIMIT = 50;
+    private static final int MAX_PAGE_LIMIT = 500;
+    private static final TimeZone UTC = TimeZone.getTimeZone("UTC");
+    private static final int MIN_KEY_LENGTH = 2;
+    private static final int MAX_KEY_LENGTH = 10;
+    private static final int KEY_SUGGESTIONS = 5;
+    private static final int KEY_SUGGESTION_CANDIDATES = 20;
+
+    private static final String COUNT_STATUS_TRANSITIONS =
+            "SELECT COUNT(*) FROM workflow_transition WHERE from_status_id = ? OR to_status_id = ?";
+
+    private static final String STREAM_PROJECTS_COLUMNS =
+            "SELECT project_id, name, project_key, type, owner_id, created_at, version FROM projects ";
+    private static final String STREAM_FIRST_CHUNK_SQL = STREAM_PROJECTS_COLUMNS +
+            "WHERE deleted_at IS NULL ORDER BY created_at, project_id LIMIT ?";
+    private static final String STREAM_NEXT_CHUNK_SQL = STREAM_PROJECTS_COLUMNS +
+            "WHERE deleted_at IS NULL AND (created_at, project_id) > (?, ?) ORDER BY created_at, project_id LIMIT ?";
+
+    @Value("${projects.stream.fetch-size:500}")
+    private int streamFetchSize;
+
+    /**
+     * Returns one page of projects ordered by (createdAt, id), starting after {@code cursor}
+     * (or from the beginning when it is null).
+     */
+    @Transactional(readOnly = true)
+    public PageResponseDTO<ProjectResponseDTO> getProjectsPage(String cursor, Integer limit) {
+        int pageSize = pageSize(limit);
+        // Fetch one extra row to find out whether there is a next page
+        Limit fetchLimit = Limit.of(pageSize + 1);
+
+        List<Project> projects;
+        if (cursor == null || cursor.isBlank()) {
+            projects = projectRepository.findFirstPage(fetchLimit);
+        } else {
+            ProjectCursor after = ProjectCursor.decode(cursor);
+            projects = projectRepository.findPageAfter(after.createdAt(), after.projectId(), fetchLimit);
+        }
+
+        return toPage(projects.stream().map(this::mapToResponseDTO).collect(Collectors.toList()), pageSize,
+                last -> new ProjectCursor(last.getCreatedAt(), last.getId()));
+    }
+
+    /**
+     * Returns one page of the projects the caller is an active member of, with the caller's role,
+     * in the same (createdAt, id) order and cursor format as {@link #getProjectsPage}.
+     */
+    public PageResponseDTO<MyProjectResponseDTO> getMyProjects(String requestingUserEmail, UUID requestingKeycloakId,
+                                                               String cursor, Integer limit) {
+        UUID userId = userLookupService.resolveRequestingUserId(requestingUserEmail, requestingKeycloakId);
+        int pageSize = pageSize(limit);
+        Limit fetchLimit = Limit.of(pageSize + 1);
+
+        List<MyProjectResponseDTO> projects;
+        if (cursor == null || cursor.isBlank()) {
+            projects = projectMemberRepository.findMyProjectsFirstPage(userId, MemberStatus.ACTIVE, fetchLimit);
+        } else {
+            ProjectCursor after = ProjectCursor.decode(cursor);
+            projects = projectMemberRepository.findMyProjectsPageAfter(userId, MemberStatus.ACTIVE,
+                    after.createdAt(), after.projectId(), fetchLimit);
+        }
+
+        return toPage(projects, pageSize, last -> new ProjectCursor(last.getCreatedAt(), last.getId()));
+    }
+
+    /**
+     * Hands every project to {@code consumer} in (createdAt, id) order without materializing
+     * the table. Rows are read in keyset chunks of {@code projects.stream.fetch-size}, each in its
+     * own short read-only transaction, and a chunk is handed over only after its connection is
+     * back in the pool: a slow consumer (a slow client) never holds a connection, each chunk costs
+     * one query. The export is not a snapshot; projects deleted while it runs may still be listed.
+     */
+    public void streamAllProjects(Consumer<ProjectResponseDTO> consumer) {
+        TransactionTemplate readOnly = new TransactionTemplate(transactionTemplate.getTransactionManager());
+        readOnly.setReadOnly(true);
+
+        List<Project> chunk = readOnly.execute(status ->
+                jdbcTemplate.query(STREAM_FIRST_CHUNK_SQL, this::mapStreamedProject, streamFetchSize));
+        while (!chunk.isEmpty()) {
+            chunk.forEach(project -> consumer.accept(mapToResponseDTO(project)));
+            if (chunk.size() < streamFetchSize) {
+                return;
+            }
+            Project last = chunk.get(chunk.size() - 1);
+            chunk = readOnly.execute(status -> jdbcTemplate.query(connection -> {
+                PreparedStatement statement = connection.prepareStatement(STREAM_NEXT_CHUNK_SQL);
+                statement.setTimestamp(1, Timestamp.valueOf(last.getCreatedAt()), Calendar.getInstance(UTC));
+                statement.setObject(2, last.getId());
+                statement.setInt(3, streamFetchSize);
+                return statement;
+            }, this::mapStreamedProject));
+        }
     }
 
+    private Project mapStreamedProject(ResultSet rs, int rowNum) throws SQLException {
+        // Read with the same zone Hibernate writes with (hibernate.jdbc.time_zone=UTC)
+        Timestamp createdAt = rs.getTimestamp("created_at", Calendar.getInstance(UTC));
+        return Project.builder()
+                .id(rs.getObject("project_id", UUID.class))
+                .name(rs.getString("name"))
+                .projectKey(rs.getString("project_key"))
+                .type(rs.getString("type"))
+                .ownerId(rs.getObject("owner_id", UUID.class))
+                .createdAt(createdAt != null ? createdAt.toLocalDateTime() : null)
+                .version(rs.getLong("version"))
+                .build();
+    }
+
+    @Transactional(readOnly = true)
     public Optional<ProjectResponseDTO> getProjectById(UUID id) {
         return projectRepository.findById(id)
                 .map(this::mapToResponseDTO);
     }
 
-    @Transactional
+    /**
+     * Projects with their ordered statuses, with one query for the projects and one for all their
+     * statuses. Results follow the order of {@code ids}, duplicates dropped; unknown ids are
+     * listed in notFound.
+     */
+    @Transactional(readOnly = true)
+    public ProjectBatchResponseDTO getProjectsWithStatuses(List<UUID> ids) {
+        Set<UUID> requested = new LinkedHashSet<>(ids);
+        Map<UUID, Project> projects = projectRepository.findAllById(requested).stream()
+                .collect(Collectors.toMap(Project::getId, Function.identity()));
+
+        Map<UUID, List<WorkFlowStatusResponseDTO>> statuses = new HashMap<>();
+        if (!projects.isEmpty()) {
+            for (WorkFlowStatus status : workFlowStatusRepository.findByProjectIdInOrdered(projects.keySet())) {
+                statuses.computeIfAbsent(status.getProject().getId(), id -> new ArrayList<>())
+                        .add(mapToStatusResponseDTO(status));
+            }
+        }
+
+        List<ProjectWithStatusesDTO> found = new ArrayList<>(projects.size());
+        List<UUID> notFound = new ArrayList<>();
+        for (UUID id : requested) {
+            Project project = projects.get(id);
+            if (project == null) {
+                notFound.add(id);
+            } else {
+                found.add(ProjectWithStatusesDTO.builder()
+                        .project(mapToResponseDTO(project))
+                        .statuses(statuses.getOrDefault(id, List.of()))
+                        .build());
+            }
+        }
+        return ProjectBatchResponseDTO.builder()
+                .projects(found)
+                .notFound(notFound)
+                .build();
+    }
+
+    // Version of the project row without loading it, for conditional GETs; empty for unknown projects
+    public Optional<Long> getProjectVersion(UUID id) {
+        return projectRepository.findVersionById(id);
+    }
+
+    /**
+     * Rejects a taken key before any transaction opens, from the in-memory key set; the unique
+     * constraint still settles a race with a concurrent create (also answered with 409).
+     */
     public ProjectResponseDTO createProject(ProjectRequestDTO requestDTO) {
+        String projectKey = requestDTO.getProjectKey().toUpperCase();
+        if (!takenKeys(List.of(projectKey)).isEmpty()) {
+            throw new ProjectKeyTakenException(projectKey, suggestKeys(projectKey));
+        }
+        return transactionTemplate.execute(status -> insertProject(requestDTO));
+    }
+
+    /** Whether {@code projectKey} is free, with free alternatives when it is not. Served from memory once the key set is loaded. */
+    public ProjectKeyAvailabilityDTO getKeyAvailability(String projectKey) {
+        String key = projectKey.trim().toUpperCase();
+        if (key.length() < MIN_KEY_LENGTH || key.length() > MAX_KEY_LENGTH) {
+            throw new RuntimeException("Project key must be between " + MIN_KEY_LENGTH + " and " + MAX_KEY_LENGTH + " characters");
+        }
+        boolean available = takenKeys(List.of(key)).isEmpty();
+        return ProjectKeyAvailabilityDTO.builder()
+                .key(key)
+                .available(available)
+                .suggestions(available ? List.of() : suggestKeys(key))
+                .build();
+    }
+
+    private ProjectResponseDTO insertProject(ProjectRequestDTO requestDTO) {
         // 1️⃣ Map DTO to Entity and Save project
         Project project = Project.builder()
                 .name(requestDTO.getName())
@@ -60,7 +271,7 @@ public class ProjectService {
                 .map(defaultStatus -> WorkFlowStatus.builder()
                         .code(defaultStatus.getCode())
                         .statusName(defaultStatus.getName())
-                        .orderIndex(defaultStatus.getOrder())
+                        .orderIndex(defaultStatus.getOrder() * STATUS_ORDER_GAP)
                         .isFinal(defaultStatus.isFinal())
                         .isActive(true)
                         .project(savedProject)
@@ -68,6 +279,7 @@ public class ProjectService {
                 .toList();
 
         workFlowStatusRepository.saveAll(statuses);
+        workflowStatusCache.evictAfterCommit(savedProject.getId());
 
         // 3️⃣ Add the creator as the OWNER
         ProjectMember owner = ProjectMember.builder()
@@ -78,35 +290,297 @@ public class ProjectService {
         
         projectMemberRepository.save(owner);
 
-        return mapToResponseDTO(savedProject);
+        ProjectResponseDTO response = mapToResponseDTO(savedProject);
+        List<ChangeLog.Change> changes = new ArrayList<>();
+        changes.add(ChangeLog.Change.upsert(ChangeEntityType.PROJECT, savedProject.getId(), savedProject.getId(), response));
+        statuses.forEach(status -> changes.add(ChangeLog.Change.upsert(ChangeEntityType.STATUS, savedProject.getId(),
+                status.getId(), mapToStatusResponseDTO(status))));
+        changes.add(ChangeLog.Change.upsert(ChangeEntityType.MEMBER, savedProject.getId(), owner.getUserId(),
+                ProjectMemberResponseDTO.builder()
+                        .id(owner.getId())
+                        .userId(owner.getUserId())
+                        .projectId(savedProject.getId())
+                        .role(owner.getRole())
+                        .status(owner.getStatus())
+                        .joinedAt(owner.getJoinedAt())
+                        .build()));
+        changeLog.recordAll(changes);
+        projectSearchIndex.putAfterCommit(response);
+
+        return response;
     }
 
+    /** Renames to a key another project uses are rejected like creates, with free alternatives. */
+    @Transactional
     public ProjectResponseDTO updateProject(UUID id, ProjectRequestDTO projectDetailsDTO) {
-        Project project = projectRepository.findById(id)
-                .orElseThrow(() -> new RuntimeException("Project not found with id: " + id));
+        Project project = projectRepository.findFreshById(id)
+                .orElseThrow(() -> new ProjectNotFoundException(id));
+        String projectKey = projectDetailsDTO.getProjectKey().toUpperCase();
+        if (!projectKey.equals(project.getProjectKey()) && !takenKeys(List.of(projectKey)).isEmpty()) {
+            throw new ProjectKeyTakenException(projectKey, suggestKeys(projectKey));
+        }
         
         project.setName(projectDetailsDTO.getName());
-        project.setProjectKey(projectDetailsDTO.getProjectKey().toUpperCase());
+        project.setProjectKey(projectKey);
         project.setType(projectDetailsDTO.getType());
         project.setOwnerId(projectDetailsDTO.getOwnerId());
         
-        Project updatedProject = projectRepository.save(project);
-        return mapToResponseDTO(updatedProject);
+        // Flushed so the recorded payload carries the new version
+        Project updatedProject = projectRepository.saveAndFlush(project);
+        ProjectResponseDTO response = mapToResponseDTO(updatedProject);
+        changeLog.record(ChangeLog.Change.upsert(ChangeEntityType.PROJECT, id, id, response));
+        projectSearchIndex.putAfterCommit(response);
+        return response;
     }
 
+    /**
+     * Soft delete (see {@link Project}): one UPDATE that hides the project from every read path
+     * right away. Its members, statuses and transitions are removed later by {@link ProjectPurger}.
+     */
+    @Transactional
     public void deleteProject(UUID id) {
-        Project project = projectRepository.findById(id)
-                .orElseThrow(() -> new RuntimeException("Project not found with id: " + id));
+        Project project = projectRepository.findFreshById(id)
+                .orElseThrow(() -> new ProjectNotFoundException(id));
         projectRepository.delete(project);
+        changeLog.record(ChangeLog.Change.delete(ChangeEntityType.PROJECT, id, id));
+        projectSearchIndex.removeAfterCommit(id);
+        membershipIndex.evictAfterCommit(id);
+        workflowStatusCache.evictAfterCommit(id);
     }
 
     public List<WorkFlowStatusResponseDTO> getProjectStatuses(UUID projectId) {
-        return workFlowStatusRepository.findByProjectId(projectId).stream()
+        return workflowStatusCache.get(projectId, this::loadProjectStatuses).getStatuses();
+    }
+
+    // Same list as getProjectStatuses, already serialized to JSON
+    public byte[] getProjectStatusesJson(UUID projectId) {
+        return workflowStatusCache.get(projectId, this::loadProjectStatuses).getJson();
+    }
+
+    // Cached statuses together with their version, for consumers that derive their own models from them
+    public WorkflowStatusCache.ProjectStatuses getProjectStatusesSnapshot(UUID projectId) {
+        return workflowStatusCache.get(projectId, this::loadProjectStatuses);
+    }
+
+    private List<WorkFlowStatusResponseDTO> loadProjectStatuses(UUID projectId) {
+        return workFlowStatusRepository.findByProjectIdOrderByOrderIndexAsc(projectId).stream()
                 .map(this::mapToStatusResponseDTO)
                 .collect(Collectors.toList());
     }
 
-    private ProjectResponseDTO mapToResponseDTO(Project project) {
+    /** Adds a status to the project, right after {@code afterStatusId} or at the end. */
+    @Transactional
+    public WorkFlowStatusResponseDTO createStatus(UUID projectId, WorkFlowStatusRequestDTO requestDTO) {
+        lockStatuses(projectId);
+        UUID afterStatusId = requestDTO.getAfterStatusId();
+        if (afterStatusId == null) {
+            List<WorkFlowStatus> statuses = workFlowStatusRepository.findByProjectIdOrderByOrderIndexAsc(projectId);
+            afterStatusId = statuses.isEmpty() ? null : statuses.get(statuses.size() - 1).getId();
+        }
+        Placement placement = place(projectId, null, afterStatusId);
+        requireUniqueCode(placement.statuses(), requestDTO.getCode(), null, projectId);
+
+        WorkFlowStatus status = workFlowStatusRepository.save(WorkFlowStatus.builder()
+                .statusName(requestDTO.getStatusName())
+                .code(requestDTO.getCode())
+                .description(requestDTO.getDescription())
+                .orderIndex(placement.position())
+                .isFinal(Boolean.TRUE.equals(requestDTO.getIsFinal()))
+                .isActive(!Boolean.FALSE.equals(requestDTO.getIsActive()))
+                .project(projectRepository.getReferenceById(projectId))
+                .build());
+        return recordStatusChange(projectId, status);
+    }
+
+    /** Edits a status's name, code, description and flags; {@code version} must be the one last read. */
+    @Transactional
+    public WorkFlowStatusResponseDTO updateStatus(UUID projectId, UUID statusId, WorkFlowStatusRequestDTO requestDTO) {
+        lockStatuses(projectId);
+        List<WorkFlowStatus> statuses = workFlowStatusRepository.findByProjectIdOrderByOrderIndexAsc(projectId);
+        WorkFlowStatus status = requireStatus(statuses, statusId, projectId);
+        requireVersion(status, requestDTO.getVersion());
+        requireUniqueCode(statuses, requestDTO.getCode(), statusId, projectId);
+
+        status.setStatusName(requestDTO.getStatusName());
+        status.setCode(requestDTO.getCode());
+        status.setDescription(requestDTO.getDescription());
+        if (requestDTO.getIsFinal() != null) {
+            status.setIsFinal(requestDTO.getIsFinal());
+        }
+        if (requestDTO.getIsActive() != null) {
+            status.setIsActive(requestDTO.getIsActive());
+        }
+        // Flushed so the response and the recorded payload carry the new version
+        return recordStatusChange(projectId, workFlowStatusRepository.saveAndFlush(status));
+    }
+
+    /**
+     * Removes a status that no transition uses any more. Dropping its transitions here instead could
+     * leave a project without any, which CompiledWorkflow reads as "every move allowed".
+     */
+    @Transactional
+    public void deleteStatus(UUID projectId, UUID statusId, Long version) {
+        lockStatuses(projectId);
+        WorkFlowStatus status = workFlowStatusRepository.findById(statusId)
+                .filter(found -> found.getProject().getId().equals(projectId))
+                .orElseThrow(() -> new RuntimeException("Status " + statusId + " not found in project " + projectId));
+        requireVersion(status, version);
+
+        Long transitions = jdbcTemplate.queryForObject(COUNT_STATUS_TRANSITIONS, Long.class, statusId, statusId);
+        if (transitions != null && transitions > 0) {
+            throw new RuntimeException("Status " + status.getCode() + " is used by " + transitions
+                    + " transitions; replace the project's transitions without it first");
+        }
+        workFlowStatusRepository.delete(status);
+        changeLog.record(ChangeLog.Change.delete(ChangeEntityType.STATUS, projectId, statusId));
+        workflowStatusCache.evictAfterCommit(projectId);
+    }
+
+    /**
+     * Moves a status right after {@code afterStatusId} (to the front when null). This is a single-row
+     * UPDATE: the status takes the middle of the gap between its new neighbours. Only when that gap
+     * is used up are the project's positions spread out again first.
+     */
+    @Transactional
+    public WorkFlowStatusResponseDTO moveStatus(UUID projectId, UUID statusId, WorkFlowStatusMoveRequestDTO moveDTO) {
+        if (statusId.equals(moveDTO.getAfterStatusId())) {
+            throw new RuntimeException("A status cannot be moved after itself");
+        }
+        lockStatuses(projectId);
+        Placement placement = place(projectId, statusId, moveDTO.getAfterStatusId());
+        WorkFlowStatus status = requireStatus(placement.statuses(), statusId, projectId);
+        requireVersion(status, moveDTO.getVersion());
+
+        status.setOrderIndex(placement.position());
+        return recordStatusChange(projectId, workFlowStatusRepository.saveAndFlush(status));
+    }
+
+    /** Spreads the project's status positions {@link #STATUS_ORDER_GAP} apart again (see WorkflowStatusRenormalizer). */
+    @Transactional
+    public void spreadStatuses(UUID projectId) {
+        if (projectRepository.incrementStatusVersion(projectId) == 0) {
+            return; // deleted meanwhile
+        }
+        spreadStatusPositions(projectId);
+    }
+
+    // Bumps status_version, which moves the statuses ETag; the row lock it takes serializes status
+    // writes to the project, so two concurrent moves never pick the same gap
+    private void lockStatuses(UUID projectId) {
+        if (projectRepository.incrementStatusVersion(projectId) == 0) {
+            throw new RuntimeException("Project not found with id: " + projectId);
+        }
+    }
+
+    // The project's statuses, read from the database in order, and the middle of the gap right
+    // after afterStatusId (at the front when null) once placedStatusId is taken out of the list
+    private Placement place(UUID projectId, UUID placedStatusId, UUID afterStatusId) {
+        List<WorkFlowStatus> statuses = workFlowStatusRepository.findByProjectIdOrderByOrderIndexAsc(projectId);
+        for (boolean spread = false; ; spread = true) {
+            List<WorkFlowStatus> others = statuses.stream()
+                    .filter(status -> !status.getId().equals(placedStatusId))
+                    .toList();
+            int next = afterStatusId == null ? 0 : others.indexOf(requireStatus(others, afterStatusId, projectId)) + 1;
+            long low = next == 0 ? 0 : others.get(next - 1).getOrderIndex();
+            long high = next == others.size() ? low + 2L * STATUS_ORDER_GAP : others.get(next).getOrderIndex();
+            long middle = low + (high - low) / 2;
+            if (high - low >= 2 && middle <= Integer.MAX_VALUE) {
+                return new Placement(statuses, (int) middle);
+            }
+            if (spread) {
+                throw new IllegalStateException("No room for a status position in project " + projectId);
+            }
+            statuses = spreadStatusPositions(projectId);
+        }
+    }
+
+    // Rewrites every position of the project in one statement and records the statuses in the change
+    // feed; returns them fresh, in order. Clears the persistence context.
+    private List<WorkFlowStatus> spreadStatusPositions(UUID projectId) {
+        workFlowStatusRepository.spreadOrderIndexes(projectId, STATUS_ORDER_GAP);
+        List<WorkFlowStatus> statuses = workFlowStatusRepository.findByProjectIdOrderByOrderIndexAsc(projectId);
+        changeLog.recordAll(statuses.stream()
+                .map(status -> ChangeLog.Change.upsert(ChangeEntityType.STATUS, projectId, status.getId(),
+                        mapToStatusResponseDTO(status)))
+                .toList());
+        workflowStatusCache.evictAfterCommit(projectId);
+        return statuses;
+    }
+
+    private WorkFlowStatusResponseDTO recordStatusChange(UUID projectId, WorkFlowStatus status) {
+        WorkFlowStatusResponseDTO response = mapToStatusResponseDTO(status);
+        changeLog.record(ChangeLog.Change.upsert(ChangeEntityType.STATUS, projectId, status.getId(), response));
+        workflowStatusCache.evictAfterCommit(projectId);
+        return response;
+    }
+
+    private static WorkFlowStatus requireStatus(List<WorkFlowStatus> statuses, UUID statusId, UUID projectId) {
+        return statuses.stream()
+                .filter(status -> status.getId().equals(statusId))
+                .findFirst()
+                .orElseThrow(() -> new RuntimeException("Status " + statusId + " not found in project " + projectId));
+    }
+
+    private static void requireVersion(WorkFlowStatus status, Long version) {
+        if (version == null) {
+            throw new RuntimeException("The version of status " + status.getId() + " is required");
+        }
+        if (!version.equals(status.getVersion())) {
+            throw new ObjectOptimisticLockingFailureException(WorkFlowStatus.class, status.getId());
+        }
+    }
+
+    private static void requireUniqueCode(List<WorkFlowStatus> statuses, String code, UUID statusId, UUID projectId) {
+        boolean taken = statuses.stream()
+                .anyMatch(status -> status.getCode().equals(code) && !status.getId().equals(statusId));
+        if (taken) {
+            throw new RuntimeException("Status code " + code + " already exists in project " + projectId);
+        }
+    }
+
+    private record Placement(List<WorkFlowStatus> statuses, int position) {
+    }
+
+    // The key followed by 2, 3, ... (shortened to fit), keeping the first free ones
+    private List<String> suggestKeys(String projectKey) {
+        Set<String> candidates = new LinkedHashSet<>();
+        for (int n = 2; n < 100 && candidates.size() < KEY_SUGGESTION_CANDIDATES; n++) {
+            String suffix = Integer.toString(n);
+            candidates.add(projectKey.substring(0, Math.min(projectKey.length(), MAX_KEY_LENGTH - suffix.length())) + suffix);
+        }
+        Set<String> taken = takenKeys(candidates);
+        return candidates.stream()
+                .filter(candidate -> !taken.contains(candidate))
+                .limit(KEY_SUGGESTIONS)
+                .collect(Collectors.toList());
+    }
+
+    // Upper-cased keys among the given ones that a project uses; from the database until the index is loaded
+    private Set<String> takenKeys(Collection<String> projectKeys) {
+        if (projectSearchIndex.isReady()) {
+            return projectKeys.stream().filter(projectSearchIndex::isKeyTaken).collect(Collectors.toSet());
+        }
+        return new HashSet<>(projectRepository.findProjectKeysIn(projectKeys));
+    }
+
+    private static int pageSize(Integer limit) {
+        return limit == null ? DEFAULT_PAGE_LIMIT : Math.max(1, Math.min(limit, MAX_PAGE_LIMIT));
+    }
+
+    // rows holds up to pageSize + 1 entries; the extra one only signals that a next page exists
+    private static <T> PageResponseDTO<T> toPage(List<T> rows, int pageSize, Function<T, ProjectCursor> cursorOf) {
+        String nextCursor = null;
+        if (rows.size() > pageSize) {
+            rows = rows.subList(0, pageSize);
+            nextCursor = cursorOf.apply(rows.get(pageSize - 1)).encode();
+        }
+        return PageResponseDTO.<T>builder()
+                .items(rows)
+                .nextCursor(nextCursor)
+                .build();
+    }
+
+    ProjectResponseDTO mapToResponseDTO(Project project) {
         return ProjectResponseDTO.builder()
                 .id(project.getId())
                 .name(project.getName())
@@ -114,10 +588,11 @@ public class ProjectService {
                 .type(project.getType())
                 .ownerId(project.getOwnerId())
                 .createdAt(project.getCreatedAt())
+                .version(project.getVersion())
                 .build();
     }
 
-    private WorkFlowStatusResponseDTO mapToStatusResponseDTO(WorkFlowStatus status) {
+    WorkFlowStatusResponseDTO mapToStatusResponseDTO(WorkFlowStatus status) {
         return WorkFlowStatusResponseDTO.builder()
                 .id(status.getId())
                 .statusName(status.getStatusName())
@@ -127,6 +602,7 @@ public class ProjectService {
                 .isFinal(status.getIsFinal())
                 .isActive(status.getIsActive())
                 .createdAt(status.getCreatedAt())
+                .version(status.getVersion())
                 .build();
     }
 }
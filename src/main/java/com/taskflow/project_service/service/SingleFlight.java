@@ -0,0 +1,117 @@
+package com.taskflow.project_service.service;
+
+import io.micrometer.core.instrument.Counter;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Coalesces concurrent loads of the same key: the first caller for a key loads it, callers that
+ * arrive while that load is in flight wait for its result instead of loading again.
+ * <p>
+ * In-flight loads live in a ConcurrentHashMap, so joining an existing load is a lock-free read
+ * and registering a new one only contends with callers hashing to the same bin. Loads are never
+ * run while a map lock is held, and a caller finishes its own loads before it waits for anybody
+ * else's, so two bulk loads with overlapping keys cannot wait on each other.
+ */
+final class SingleFlight<K, V> {
+
+    private final ConcurrentHashMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+    private final Counter coalesced;
+
+    SingleFlight(Counter coalesced) {
+        this.coalesced = coalesced;
+    }
+
+    /** Loads one key, or waits for the load already in flight; its result or error is shared. */
+    V get(K key, Function<K, V> loader) {
+        CompletableFuture<V> pending = inFlight.get(key);
+        if (pending == null) {
+            CompletableFuture<V> mine = new CompletableFuture<>();
+            pending = inFlight.putIfAbsent(key, mine);
+            if (pending == null) {
+                try {
+                    V value = loader.apply(key);
+                    mine.complete(value);
+                    return value;
+                } catch (Throwable e) {
+                    // Errors too, or the callers waiting on this load would wait forever
+                    mine.completeExceptionally(e);
+                    throw e;
+                } finally {
+                    inFlight.remove(key, mine);
+                }
+            }
+        }
+        coalesced.increment();
+        try {
+            return pending.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw e.getCause() instanceof RuntimeException cause ? cause : e;
+        }
+    }
+
+    /**
+     * Loads many keys with one bulk call for the keys nobody else is loading, then collects the
+     * keys that were already in flight. Keys without a value, or whose shared load failed, are
+     * absent from the result.
+     */
+    Map<K, V> getAll(Collection<? extends K> keys, Function<Set<K>, Map<K, V>> bulkLoader) {
+        Map<K, CompletableFuture<V>> joined = new HashMap<>();
+        Map<K, CompletableFuture<V>> owned = new HashMap<>();
+        for (K key : new LinkedHashSet<>(keys)) {
+            CompletableFuture<V> pending = inFlight.get(key);
+            if (pending == null) {
+                CompletableFuture<V> mine = new CompletableFuture<>();
+                pending = inFlight.putIfAbsent(key, mine);
+                if (pending == null) {
+                    owned.put(key, mine);
+                    continue;
+                }
+            }
+            coalesced.increment();
+            joined.put(key, pending);
+        }
+
+        Map<K, V> result = new HashMap<>();
+        if (!owned.isEmpty()) {
+            try {
+                Map<K, V> loaded = bulkLoader.apply(owned.keySet());
+                owned.forEach((key, future) -> {
+                    V value = loaded.get(key);
+                    future.complete(value);
+                    if (value != null) {
+                        result.put(key, value);
+                    }
+                });
+            } catch (Throwable e) {
+                owned.values().forEach(future -> future.completeExceptionally(e));
+                throw e;
+            } finally {
+                owned.forEach(inFlight::remove);
+            }
+        }
+
+        joined.forEach((key, future) -> {
+            try {
+                V value = future.join();
+                if (value != null) {
+                    result.put(key, value);
+                }
+            } catch (CompletionException e) {
+                // Left out, as if the lookup had failed for this caller
+            }
+        });
+        return result;
+    }
+}
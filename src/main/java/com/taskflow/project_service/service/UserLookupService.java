@@ -0,0 +1,307 @@
+package com.taskflow.project_service.service;
+
+import com.github.benmanes.caffeine.cache.CacheLoader;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.taskflow.project_service.clients.UserClient;
+import com.taskflow.project_service.config.FeignClientInterceptor;
+import com.taskflow.project_service.dto.UserResponse;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Semaphore;
+import java.util.function.Function;
+
+/**
+ * Read-side access to user profiles held by ums-service.
+ * <p>
+ * Profiles are cached by id, email and Keycloak id in size-bounded caches. An entry older than
+ * {@code ums.user-cache.refresh-after} is still served while it is reloaded in the background;
+ * it is only dropped after {@code ums.user-cache.expire-after}, so reads survive short UMS outages.
+ * Bulk lookups are split into chunks of {@code ums.batch-size} keys that are fetched concurrently,
+ * at most {@code ums.fanout.max-concurrency} chunks of one lookup at a time; a failed chunk is
+ * logged and skipped so callers always get whatever could be resolved.
+ * <p>
+ * UMS calls never run while a cache-internal lock is held: single-key lookups go through the
+ * bulk path, which loads outside the map's bin locks. A blocking call under such a lock would pin
+ * the carrier thread when requests run on virtual threads.
+ * <p>
+ * Below the caches, concurrent misses for the same key are coalesced ({@link SingleFlight}): one
+ * UMS call is made and every waiting caller gets its result. Keys that joined a call already in
+ * flight are counted in {@code ums.users.coalesced}.
+ */
+@Service
+@Slf4j
+public class UserLookupService {
+
+    private final UserClient umsClient;
+    private final int batchSize;
+    private final Executor fanOutExecutor;
+    private final int maxConcurrency;
+
+    private final LoadingCache<UUID, UserResponse> usersById;
+    private final LoadingCache<String, UserResponse> usersByEmail;
+    private final LoadingCache<String, UserResponse> usersByKeycloakId;
+
+    private final SingleFlight<UUID, UserResponse> idLookups;
+    private final SingleFlight<String, UserResponse> emailLookups;
+    private final SingleFlight<String, UserResponse> keycloakIdLookups;
+
+    public UserLookupService(UserClient umsClient,
+                             MeterRegistry meterRegistry,
+                             @Qualifier("applicationTaskExecutor") Executor taskExecutor,
+                             @Value("${ums.batch-size:100}") int batchSize,
+                             @Value("${ums.fanout.max-concurrency:8}") int maxConcurrency,
+                             @Value("${ums.user-cache.maximum-size:10000}") long maximumSize,
+                             @Value("${ums.user-cache.refresh-after:5m}") Duration refreshAfter,
+                             @Value("${ums.user-cache.expire-after:1h}") Duration expireAfter) {
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("ums.batch-size must be positive, was " + batchSize);
+        }
+        this.umsClient = umsClient;
+        this.batchSize = batchSize;
+        // Virtual-thread-per-task when spring.threads.virtual.enabled=true, a bounded pool otherwise
+        this.fanOutExecutor = task -> taskExecutor.execute(FeignClientInterceptor.withCurrentHeaders(task));
+        this.maxConcurrency = maxConcurrency;
+        this.idLookups = new SingleFlight<>(coalescedCounter(meterRegistry, "id"));
+        this.emailLookups = new SingleFlight<>(coalescedCounter(meterRegistry, "email"));
+        this.keycloakIdLookups = new SingleFlight<>(coalescedCounter(meterRegistry, "keycloakId"));
+
+        this.usersById = newCache(maximumSize, refreshAfter, expireAfter, fanOutExecutor, new CacheLoader<>() {
+            @Override
+            public UserResponse load(UUID id) {
+                return fetchUserById(id);
+            }
+
+            @Override
+            public Map<UUID, UserResponse> loadAll(Set<? extends UUID> ids) {
+                return fetchUsersByIds(ids);
+            }
+        });
+        this.usersByEmail = newCache(maximumSize, refreshAfter, expireAfter, fanOutExecutor, new CacheLoader<>() {
+            @Override
+            public UserResponse load(String email) {
+                return fetchUserByEmail(email);
+            }
+
+            @Override
+            public Map<String, UserResponse> loadAll(Set<? extends String> emails) {
+                return fetchUsersByEmails(emails);
+            }
+        });
+        this.usersByKeycloakId = newCache(maximumSize, refreshAfter, expireAfter, fanOutExecutor,
+                this::fetchUserByKeycloakId);
+
+        CaffeineCacheMetrics.monitor(meterRegistry, usersById, "ums.users", "index", "id");
+        CaffeineCacheMetrics.monitor(meterRegistry, usersByEmail, "ums.users", "index", "email");
+        CaffeineCacheMetrics.monitor(meterRegistry, usersByKeycloakId, "ums.users", "index", "keycloakId");
+    }
+
+    public UserResponse getUserById(UUID id) {
+        return indexByEmail(getUnlocked(usersById, id, this::fetchUserById));
+    }
+
+    public UserResponse getUserByEmail(String email) {
+        return indexById(getUnlocked(usersByEmail, normalizeEmail(email), this::fetchUserByEmail));
+    }
+
+    public UserResponse getUserByKeycloakId(String keycloakId) {
+        return indexByEmail(indexById(getUnlocked(usersByKeycloakId, keycloakId, this::fetchUserByKeycloakId)));
+    }
+
+    /**
+     * Maps the caller identity forwarded by the gateway to the local UMS user id.
+     * The email is preferred; when it is missing (the gateway sends "unknown") the
+     * X-User-Id header, which carries the Keycloak id, is used instead.
+     */
+    public UUID resolveRequestingUserId(String requestingUserEmail, UUID requestingKeycloakId) {
+        try {
+            UserResponse requestingUser = (requestingUserEmail == null || "unknown".equalsIgnoreCase(requestingUserEmail))
+                    ? getUserByKeycloakId(requestingKeycloakId.toString())
+                    : getUserByEmail(requestingUserEmail);
+            return requestingUser.getId();
+        } catch (Exception e) {
+            throw new RuntimeException("Could not verify requesting user identity: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Resolves many users, going to UMS only for ids that are not cached.
+     * Ids that could not be resolved are absent from the returned map.
+     */
+    public Map<UUID, UserResponse> getUsersByIds(Collection<UUID> ids) {
+        Set<UUID> distinctIds = new LinkedHashSet<>(ids);
+        distinctIds.remove(null);
+        Map<UUID, UserResponse> users = usersById.getAll(distinctIds);
+        users.values().forEach(this::indexByEmail);
+        return users;
+    }
+
+    /**
+     * Resolves many users by email, going to UMS only for emails that are not cached.
+     * The returned map is keyed by the emails as passed in; unknown emails are absent.
+     */
+    public Map<String, UserResponse> getUsersByEmails(Collection<String> emails) {
+        Map<String, String> normalized = new HashMap<>();
+        for (String email : emails) {
+            if (email != null) {
+                normalized.put(email, normalizeEmail(email));
+            }
+        }
+
+        Map<String, UserResponse> users = usersByEmail.getAll(new LinkedHashSet<>(normalized.values()));
+        Map<String, UserResponse> usersByRequestedEmail = new HashMap<>(normalized.size() * 2);
+        normalized.forEach((email, key) -> {
+            UserResponse user = users.get(key);
+            if (user != null) {
+                usersByRequestedEmail.put(email, indexById(user));
+            }
+        });
+        return usersByRequestedEmail;
+    }
+
+    /**
+     * Like {@link #getUsersByIds} but always asks UMS, and replaces the cached profiles with the
+     * answers. Ids UMS does not know, or that could not be fetched, are absent.
+     */
+    public Map<UUID, UserResponse> refreshUsersByIds(Collection<UUID> ids) {
+        Set<UUID> distinctIds = new LinkedHashSet<>(ids);
+        distinctIds.remove(null);
+        Map<UUID, UserResponse> users = fetchUsersByIds(distinctIds);
+        usersById.putAll(users);
+        users.values().forEach(this::indexByEmail);
+        return users;
+    }
+
+    private UserResponse fetchUserById(UUID id) {
+        return idLookups.get(id, umsClient::getUserById);
+    }
+
+    private UserResponse fetchUserByEmail(String email) {
+        return emailLookups.get(email, umsClient::getUserByEmail);
+    }
+
+    private UserResponse fetchUserByKeycloakId(String keycloakId) {
+        return keycloakIdLookups.get(keycloakId, umsClient::getUserByKeycloakId);
+    }
+
+    private Map<UUID, UserResponse> fetchUsersByIds(Collection<? extends UUID> ids) {
+        return idLookups.getAll(ids, missing -> fetchInChunks(missing, umsClient::getUsersByIds, UserResponse::getId));
+    }
+
+    private Map<String, UserResponse> fetchUsersByEmails(Collection<? extends String> emails) {
+        return emailLookups.getAll(emails,
+                missing -> fetchInChunks(missing, umsClient::getUsersByEmails, user -> normalizeEmail(user.getEmail())));
+    }
+
+    private <K> Map<K, UserResponse> fetchInChunks(Collection<? extends K> keys,
+                                                   Function<List<K>, List<UserResponse>> bulkCall,
+                                                   Function<UserResponse, K> keyOf) {
+        List<K> distinctKeys = new ArrayList<>(keys);
+        List<List<K>> chunks = new ArrayList<>();
+        for (int from = 0; from < distinctKeys.size(); from += batchSize) {
+            chunks.add(distinctKeys.subList(from, Math.min(from + batchSize, distinctKeys.size())));
+        }
+
+        List<UserResponse> users = new ArrayList<>(distinctKeys.size());
+        if (chunks.size() == 1) {
+            users.addAll(fetchChunk(chunks.get(0), bulkCall));
+        } else {
+            // Submitting blocks while maxConcurrency chunks of this lookup are in flight
+            Semaphore permits = new Semaphore(maxConcurrency);
+            List<CompletableFuture<List<UserResponse>>> pending = new ArrayList<>(chunks.size());
+            for (List<K> chunk : chunks) {
+                permits.acquireUninterruptibly();
+                pending.add(CompletableFuture.supplyAsync(() -> fetchChunk(chunk, bulkCall), fanOutExecutor)
+                        .whenComplete((result, error) -> permits.release()));
+            }
+            pending.forEach(future -> users.addAll(future.join()));
+        }
+
+        Map<K, UserResponse> resolved = new HashMap<>(distinctKeys.size() * 2);
+        for (UserResponse user : users) {
+            K key = user == null ? null : keyOf.apply(user);
+            if (key != null) {
+                resolved.put(key, user);
+            }
+        }
+        return resolved;
+    }
+
+    private <K> List<UserResponse> fetchChunk(List<K> chunk, Function<List<K>, List<UserResponse>> bulkCall) {
+        try {
+            List<UserResponse> users = bulkCall.apply(chunk);
+            return users != null ? users : List.of();
+        } catch (Exception e) {
+            log.warn("Bulk user lookup failed for {} keys: {}", chunk.size(), e.getMessage());
+            return List.of();
+        }
+    }
+
+    // Like cache.get(key), but the loader runs outside the cache's internal locks (and its errors
+    // reach the caller unchanged). Concurrent misses on the same key are coalesced by the loader.
+    private static <K> UserResponse getUnlocked(LoadingCache<K, UserResponse> cache, K key,
+                                                Function<K, UserResponse> loader) {
+        return cache.getAll(List.of(key), keys -> {
+            UserResponse user = loader.apply(key);
+            return user == null ? Map.of() : Map.of(key, user);
+        }).get(key);
+    }
+
+    // Fill gaps in the other indexes with a resolved profile. This runs after the lookup returns,
+    // never inside a loader, because a loader writing into another cache can deadlock with a
+    // concurrent load in that cache.
+    private UserResponse indexById(UserResponse user) {
+        if (user != null && user.getId() != null) {
+            usersById.asMap().putIfAbsent(user.getId(), user);
+        }
+        return user;
+    }
+
+    private UserResponse indexByEmail(UserResponse user) {
+        if (user != null && user.getEmail() != null) {
+            usersByEmail.asMap().putIfAbsent(normalizeEmail(user.getEmail()), user);
+        }
+        return user;
+    }
+
+    private static String normalizeEmail(String email) {
+        return email == null ? null : email.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static Counter coalescedCounter(MeterRegistry meterRegistry, String index) {
+        return Counter.builder("ums.users.coalesced")
+                .description("User lookups that joined an identical UMS call already in flight")
+                .tag("index", index)
+                .register(meterRegistry);
+    }
+
+    private static <K, V> LoadingCache<K, V> newCache(long maximumSize, Duration refreshAfter, Duration expireAfter,
+                                                      Executor refreshExecutor, CacheLoader<K, V> loader) {
+        // Background reloads forward the headers of the request that triggered them
+        return Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .refreshAfterWrite(refreshAfter)
+                .expireAfterWrite(expireAfter)
+                .executor(refreshExecutor)
+                .recordStats()
+                .build(loader);
+    }
+}
@@ -0,0 +1,163 @@
+package com.taskflow.project_service.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.taskflow.project_service.dto.WorkFlowStatusResponseDTO;
+import com.taskflow.project_service.repository.ProjectRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * Per-project cache of the ordered workflow status list, kept as DTOs, as pre-serialized
+ * JSON and, once requested, as a {@link CompiledWorkflow} transition model.
+ * <p>
+ * Every write to a project's statuses must increment {@code projects.status_version} in the
+ * same transaction. A cached entry is trusted for {@code workflow.status-cache.revalidate-after};
+ * after that one primary-key lookup of the version decides whether it is still current, which
+ * is how writes made on other replicas are picked up. Local writes evict the entry on commit.
+ */
+@Component
+public class WorkflowStatusCache {
+
+    private final ProjectRepository projectRepository;
+    private final ObjectMapper objectMapper;
+    private final long revalidateAfterNanos;
+    private final Cache<UUID, ProjectStatuses> cache;
+
+    public WorkflowStatusCache(ProjectRepository projectRepository,
+                               ObjectMapper objectMapper,
+                               MeterRegistry meterRegistry,
+                               @Value("${workflow.status-cache.maximum-size:5000}") long maximumSize,
+                               @Value("${workflow.status-cache.revalidate-after:2s}") Duration revalidateAfter) {
+        this.projectRepository = projectRepository;
+        this.objectMapper = objectMapper;
+        this.revalidateAfterNanos = revalidateAfter.toNanos();
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "workflow.statuses");
+    }
+
+    /**
+     * Returns the cached statuses of a project, loading them with {@code loader} when they are
+     * missing or stale. Unknown projects yield an empty list and are not cached.
+     */
+    public ProjectStatuses get(UUID projectId, Function<UUID, List<WorkFlowStatusResponseDTO>> loader) {
+        ProjectStatuses cached = cache.getIfPresent(projectId);
+        long now = System.nanoTime();
+        if (cached != null && now - cached.validatedAt < revalidateAfterNanos) {
+            return cached;
+        }
+
+        // Read the version before the rows: a concurrent write can then only make the entry
+        // look older than it is (and be reloaded again), never newer.
+        Optional<Long> version = projectRepository.findStatusVersionById(projectId);
+        if (version.isEmpty()) {
+            cache.invalidate(projectId);
+            return ProjectStatuses.EMPTY;
+        }
+        if (cached != null && cached.version == version.get()) {
+            cached.validatedAt = now;
+            return cached;
+        }
+
+        List<WorkFlowStatusResponseDTO> statuses = List.copyOf(loader.apply(projectId));
+        ProjectStatuses loaded = new ProjectStatuses(projectId, version.get(), statuses, serialize(statuses), now);
+        cache.put(projectId, loaded);
+        return loaded;
+    }
+
+    /**
+     * Evicts the project's entry once the current transaction commits (or right away when there
+     * is no transaction), so this replica never serves statuses older than its own writes.
+     */
+    public void evictAfterCommit(UUID projectId) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    cache.invalidate(projectId);
+                }
+            });
+        } else {
+            cache.invalidate(projectId);
+        }
+    }
+
+    private byte[] serialize(List<WorkFlowStatusResponseDTO> statuses) {
+        try {
+            return objectMapper.writeValueAsBytes(statuses);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize workflow statuses", e);
+        }
+    }
+
+    public static final class ProjectStatuses {
+
+        static final ProjectStatuses EMPTY = new ProjectStatuses(null, -1, List.of(), "[]".getBytes(StandardCharsets.UTF_8), 0);
+
+        private final UUID projectId;
+        private final long version;
+        private final List<WorkFlowStatusResponseDTO> statuses;
+        private final byte[] json;
+        private volatile long validatedAt;
+        private volatile CompiledWorkflow compiledWorkflow;
+
+        private ProjectStatuses(UUID projectId, long version, List<WorkFlowStatusResponseDTO> statuses, byte[] json, long validatedAt) {
+            this.projectId = projectId;
+            this.version = version;
+            this.statuses = statuses;
+            this.json = json;
+            this.validatedAt = validatedAt;
+        }
+
+        // False for the placeholder returned for projects that do not exist
+        public boolean isKnownProject() {
+            return projectId != null;
+        }
+
+        public UUID getProjectId() {
+            return projectId;
+        }
+
+        public long getVersion() {
+            return version;
+        }
+
+        public List<WorkFlowStatusResponseDTO> getStatuses() {
+            return statuses;
+        }
+
+        // Shared instance: callers must not modify it
+        public byte[] getJson() {
+            return json;
+        }
+
+        /**
+         * Returns the transition model for this version of the statuses, compiling it on first use.
+         * Concurrent first calls may both compile; the results are equivalent.
+         */
+        public CompiledWorkflow getCompiledWorkflow(Function<ProjectStatuses, CompiledWorkflow> compiler) {
+            CompiledWorkflow compiled = compiledWorkflow;
+            if (compiled == null) {
+                compiled = compiler.apply(this);
+                compiledWorkflow = compiled;
+            }
+            return compiled;
+        }
+    }
+}
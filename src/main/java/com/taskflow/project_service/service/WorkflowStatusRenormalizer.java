@@ -0,0 +1,78 @@
+package com.taskflow.project_service.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Spreads workflow status positions out again before moves run out of room.
+ * <p>
+ * A move puts the status in the middle of the gap between its new neighbours, so repeated moves
+ * into the same spot halve that gap each time. Every {@code workflow.status-order.renormalize-interval}
+ * this finds up to {@code max-projects-per-run} projects with two neighbouring positions (or the
+ * first one) closer than {@code min-gap} and has {@link ProjectService#spreadStatuses} rewrite them
+ * {@link ProjectService#STATUS_ORDER_GAP} apart. A move that finds no room left spreads the
+ * project itself, so this only keeps that slower path rare.
+ */
+@Component
+@Slf4j
+public class WorkflowStatusRenormalizer {
+
+    private static final String FIND_CROWDED =
+            "SELECT DISTINCT g.project_id FROM (" +
+            "SELECT s.project_id, s.order_index - coalesce(lag(s.order_index) " +
+            "OVER (PARTITION BY s.project_id ORDER BY s.order_index), 0) AS gap " +
+            "FROM workflow_status s JOIN projects p ON p.project_id = s.project_id " +
+            "WHERE p.deleted_at IS NULL) g " +
+            "WHERE g.gap < ? LIMIT ?";
+
+    private final ProjectService projectService;
+    private final JdbcTemplate jdbcTemplate;
+    private final int minGap;
+    private final int maxProjectsPerRun;
+
+    public WorkflowStatusRenormalizer(ProjectService projectService,
+                                      JdbcTemplate jdbcTemplate,
+                                      @Value("${workflow.status-order.min-gap:8}") int minGap,
+                                      @Value("${workflow.status-order.max-projects-per-run:100}") int maxProjectsPerRun) {
+        this.projectService = projectService;
+        this.jdbcTemplate = jdbcTemplate;
+        this.minGap = minGap;
+        this.maxProjectsPerRun = maxProjectsPerRun;
+    }
+
+    @Scheduled(initialDelayString = "${workflow.status-order.renormalize-interval:10m}",
+            fixedDelayString = "${workflow.status-order.renormalize-interval:10m}")
+    public void scheduledRenormalize() {
+        try {
+            renormalize();
+        } catch (Exception e) {
+            log.warn("Workflow status renormalization failed: {}", e.getMessage());
+        }
+    }
+
+    /** Runs one pass and returns the number of projects whose positions were spread. */
+    public synchronized int renormalize() {
+        List<UUID> projectIds = jdbcTemplate.queryForList(FIND_CROWDED, UUID.class, minGap, maxProjectsPerRun);
+        int spread = 0;
+        for (UUID projectId : projectIds) {
+            try {
+                // One short transaction per project, so the status lock is held only briefly
+                projectService.spreadStatuses(projectId);
+                spread++;
+            } catch (DataAccessException e) {
+                log.warn("Could not spread the statuses of project {}: {}", projectId, e.getMessage());
+            }
+        }
+        if (spread > 0) {
+            log.info("Spread the status positions of {} projects", spread);
+        }
+        return spread;
+    }
+}
@@ -0,0 +1,139 @@
+package com.taskflow.project_service.service;
+
+import com.taskflow.project_service.dto.TransitionCheckDTO;
+import com.taskflow.project_service.dto.TransitionCheckResultDTO;
+import com.taskflow.project_service.dto.WorkFlowStatusResponseDTO;
+import com.taskflow.project_service.dto.WorkflowTransitionDTO;
+import com.taskflow.project_service.entities.Project;
+import com.taskflow.project_service.entities.WorkFlowStatus;
+import com.taskflow.project_service.entities.WorkflowTransition;
+import com.taskflow.project_service.enums.TransitionCheckOutcome;
+import com.taskflow.project_service.repository.ProjectRepository;
+import com.taskflow.project_service.repository.WorkFlowStatusRepository;
+import com.taskflow.project_service.repository.WorkflowTransitionRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Service
+@RequiredArgsConstructor
+public class WorkflowTransitionService {
+
+    private final ProjectService projectService;
+    private final ProjectRepository projectRepository;
+    private final WorkFlowStatusRepository workFlowStatusRepository;
+    private final WorkflowTransitionRepository workflowTransitionRepository;
+    private final WorkflowStatusCache workflowStatusCache;
+
+    /**
+     * Validates many (projectId, fromCode, toCode) triples against the cached, compiled workflow
+     * of each project. Results are returned in request order.
+     */
+    public List<TransitionCheckResultDTO> checkTransitions(List<TransitionCheckDTO> checks) {
+        Map<UUID, CompiledWorkflow> workflows = new HashMap<>();
+        List<TransitionCheckResultDTO> results = new ArrayList<>(checks.size());
+
+        for (TransitionCheckDTO check : checks) {
+            CompiledWorkflow workflow = workflows.computeIfAbsent(check.getProjectId(), this::getCompiledWorkflow);
+            TransitionCheckOutcome outcome = workflow == null
+                    ? TransitionCheckOutcome.UNKNOWN_PROJECT
+                    : workflow.check(check.getFromCode(), check.getToCode());
+
+            results.add(TransitionCheckResultDTO.builder()
+                    .projectId(check.getProjectId())
+                    .fromCode(check.getFromCode())
+                    .toCode(check.getToCode())
+                    .allowed(outcome == TransitionCheckOutcome.ALLOWED)
+                    .outcome(outcome)
+                    .build());
+        }
+        return results;
+    }
+
+    /** The project's transitions; none for projects that do not exist or are deleted, like its statuses. */
+    public List<WorkflowTransitionDTO> getTransitions(UUID projectId) {
+        WorkflowStatusCache.ProjectStatuses snapshot = projectService.getProjectStatusesSnapshot(projectId);
+        if (!snapshot.isKnownProject()) {
+            // Deleted projects keep their transition rows until they are purged
+            return List.of();
+        }
+        Map<UUID, String> codeById = snapshot.getStatuses().stream()
+                .collect(Collectors.toMap(WorkFlowStatusResponseDTO::getId, WorkFlowStatusResponseDTO::getCode));
+
+        return workflowTransitionRepository.findStatusIdPairsByProjectId(projectId).stream()
+                .map(pair -> WorkflowTransitionDTO.builder()
+                        .fromCode(codeById.get((UUID) pair[0]))
+                        .toCode(codeById.get((UUID) pair[1]))
+                        .build())
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Replaces the allowed transitions of a project. An empty list restores the default
+     * (any active status to any other active status).
+     */
+    @Transactional
+    public List<WorkflowTransitionDTO> replaceTransitions(UUID projectId, List<WorkflowTransitionDTO> transitions) {
+        Project project = projectRepository.findById(projectId)
+                .orElseThrow(() -> new RuntimeException("Project not found with id: " + projectId));
+
+        Map<String, WorkFlowStatus> statusByCode = workFlowStatusRepository.findByProjectId(projectId).stream()
+                .collect(Collectors.toMap(WorkFlowStatus::getCode, Function.identity()));
+
+        Set<WorkflowTransitionDTO> distinct = new LinkedHashSet<>(transitions);
+        List<WorkflowTransition> entities = new ArrayList<>(distinct.size());
+        for (WorkflowTransitionDTO transition : distinct) {
+            entities.add(WorkflowTransition.builder()
+                    .project(project)
+                    .fromStatus(requireStatus(statusByCode, transition.getFromCode(), projectId))
+                    .toStatus(requireStatus(statusByCode, transition.getToCode(), projectId))
+                    .build());
+        }
+
+        workflowTransitionRepository.deleteByProjectId(projectId);
+        workflowTransitionRepository.saveAll(entities);
+
+        // Transitions are part of the compiled workflow, which is versioned with the statuses. The
+        // bump also catches projects deleted since the (possibly cached) project was loaded
+        if (projectRepository.incrementStatusVersion(projectId) == 0) {
+            throw new RuntimeException("Project not found with id: " + projectId);
+        }
+        workflowStatusCache.evictAfterCommit(projectId);
+
+        return new ArrayList<>(distinct);
+    }
+
+    // null for unknown projects
+    private CompiledWorkflow getCompiledWorkflow(UUID projectId) {
+        WorkflowStatusCache.ProjectStatuses snapshot = projectService.getProjectStatusesSnapshot(projectId);
+        if (!snapshot.isKnownProject()) {
+            return null;
+        }
+        return snapshot.getCompiledWorkflow(this::compile);
+    }
+
+    private CompiledWorkflow compile(WorkflowStatusCache.ProjectStatuses snapshot) {
+        List<UUID[]> transitions = workflowTransitionRepository.findStatusIdPairsByProjectId(snapshot.getProjectId()).stream()
+                .map(pair -> new UUID[]{(UUID) pair[0], (UUID) pair[1]})
+                .collect(Collectors.toList());
+        return CompiledWorkflow.compile(snapshot.getStatuses(), transitions);
+    }
+
+    private static WorkFlowStatus requireStatus(Map<String, WorkFlowStatus> statusByCode, String code, UUID projectId) {
+        WorkFlowStatus status = statusByCode.get(code);
+        if (status == null) {
+            throw new RuntimeException("Unknown status code " + code + " in project " + projectId);
+        }
+        return status;
+    }
+}
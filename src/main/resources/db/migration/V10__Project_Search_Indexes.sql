@@ -0,0 +1,9 @@
+-- GET /api/projects/search: prefix matches on the key, substring and similarity matches on the name.
+-- pg_trgm is a trusted extension (PostgreSQL 13+), so the database owner can create it.
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+-- Key prefixes (LIKE 'ABC%'); keys are stored upper-cased
+CREATE INDEX IF NOT EXISTS idx_projects_key_prefix ON projects (project_key text_pattern_ops);
+
+-- Name fragments (ILIKE '%abc%') and similarity (name % 'abc')
+CREATE INDEX IF NOT EXISTS idx_projects_name_trgm ON projects USING gin (name gin_trgm_ops);
@@ -0,0 +1,10 @@
+-- DELETE /api/projects/{id} only sets deleted_at; ProjectPurger removes the project and its
+-- members, statuses and transitions afterwards, in small batches.
+ALTER TABLE projects ADD COLUMN IF NOT EXISTS deleted_at TIMESTAMP;
+
+-- Projects waiting for the purger
+CREATE INDEX IF NOT EXISTS idx_projects_deleted_at ON projects (deleted_at) WHERE deleted_at IS NOT NULL;
+
+-- A deleted project gives up its key right away: keys are unique among live projects only
+ALTER TABLE projects DROP CONSTRAINT IF EXISTS projects_project_key_key;
+CREATE UNIQUE INDEX IF NOT EXISTS uk_projects_live_project_key ON projects (project_key) WHERE deleted_at IS NULL;
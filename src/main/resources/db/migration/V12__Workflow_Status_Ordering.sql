@@ -0,0 +1,13 @@
+-- Statuses are reordered by moving one row into the gap between its new neighbours
+-- (ProjectService.moveStatus); the version guards those moves against concurrent edits.
+ALTER TABLE workflow_status ADD COLUMN IF NOT EXISTS version BIGINT NOT NULL DEFAULT 0;
+
+-- GET /api/projects/{id}/statuses and the neighbour lookups of a move read statuses in position order
+CREATE INDEX IF NOT EXISTS idx_workflow_status_project_order ON workflow_status (project_id, order_index);
+
+-- Spread the dense positions of existing projects (1, 2, 3) 1024 apart, so moves find room
+UPDATE workflow_status s SET order_index = r.rn * 1024
+FROM (SELECT status_id,
+             row_number() OVER (PARTITION BY project_id ORDER BY order_index, created_at, status_id) AS rn
+      FROM workflow_status) r
+WHERE s.status_id = r.status_id;
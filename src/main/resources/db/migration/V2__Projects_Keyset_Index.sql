@@ -0,0 +1,2 @@
+-- Supports keyset pagination of GET /api/projects ordered by (created_at, project_id)
+CREATE INDEX IF NOT EXISTS idx_projects_created_at_id ON projects (created_at, project_id);
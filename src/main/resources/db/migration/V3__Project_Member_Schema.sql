@@ -0,0 +1,15 @@
+-- project_member used to be created by Hibernate (ddl-auto=update); make it part of the
+-- versioned schema so its indexes are managed here. IF NOT EXISTS keeps existing databases intact.
+CREATE TABLE IF NOT EXISTS project_member (
+                                id UUID PRIMARY KEY,
+                                user_id UUID NOT NULL,
+                                project_id UUID NOT NULL REFERENCES projects (project_id),
+                                role VARCHAR(20) NOT NULL,
+                                status VARCHAR(20),
+                                joined_at TIMESTAMP,
+                                updated_at TIMESTAMP,
+                                CONSTRAINT uk_project_member_project_user UNIQUE (project_id, user_id)
+);
+
+-- "My projects": every membership of a user, filtered by status
+CREATE INDEX IF NOT EXISTS idx_project_member_user_status ON project_member (user_id, status);
@@ -0,0 +1,2 @@
+-- Bumped whenever a project's workflow statuses change; lets every replica detect a stale status cache
+ALTER TABLE projects ADD COLUMN IF NOT EXISTS status_version BIGINT NOT NULL DEFAULT 0;
@@ -0,0 +1,24 @@
+-- workflow_status used to be created by Hibernate (ddl-auto=update); declare it here so it can be referenced.
+-- IF NOT EXISTS keeps existing databases intact.
+CREATE TABLE IF NOT EXISTS workflow_status (
+                                status_id UUID PRIMARY KEY,
+                                status_name VARCHAR(255) NOT NULL,
+                                code VARCHAR(255) NOT NULL,
+                                description VARCHAR(255),
+                                order_index INTEGER,
+                                is_final BOOLEAN,
+                                is_active BOOLEAN,
+                                created_at TIMESTAMP,
+                                updated_at TIMESTAMP,
+                                project_id UUID NOT NULL REFERENCES projects (project_id),
+                                CONSTRAINT uk_workflow_status_project_code UNIQUE (project_id, code)
+);
+
+-- Explicitly allowed status transitions. A project without rows here allows any active -> active move.
+CREATE TABLE IF NOT EXISTS workflow_transition (
+                                transition_id UUID PRIMARY KEY,
+                                project_id UUID NOT NULL REFERENCES projects (project_id),
+                                from_status_id UUID NOT NULL REFERENCES workflow_status (status_id),
+                                to_status_id UUID NOT NULL REFERENCES workflow_status (status_id),
+                                CONSTRAINT uk_workflow_transition UNIQUE (project_id, from_status_id, to_status_id)
+);
@@ -0,0 +1,2 @@
+-- Bumped whenever a project's memberships change; lets every replica detect a stale membership index
+ALTER TABLE projects ADD COLUMN IF NOT EXISTS member_version BIGINT NOT NULL DEFAULT 0;
@@ -0,0 +1,2 @@
+-- Optimistic-lock version of the project row; exposed as the ETag of GET /api/projects/{id}
+ALTER TABLE projects ADD COLUMN IF NOT EXISTS version BIGINT NOT NULL DEFAULT 0;
@@ -0,0 +1,8 @@
+-- Display name and email of each member as last seen in UMS, so the member list needs no UMS call.
+-- profile_synced_at is when the snapshot was last checked against UMS; NULL means never.
+ALTER TABLE project_member ADD COLUMN IF NOT EXISTS display_name VARCHAR(255);
+ALTER TABLE project_member ADD COLUMN IF NOT EXISTS email VARCHAR(255);
+ALTER TABLE project_member ADD COLUMN IF NOT EXISTS profile_synced_at TIMESTAMP;
+
+-- The reconciler pages through snapshots stalest first
+CREATE INDEX IF NOT EXISTS idx_project_member_profile_synced ON project_member (profile_synced_at NULLS FIRST);
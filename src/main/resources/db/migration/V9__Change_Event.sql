@@ -0,0 +1,25 @@
+-- Transactional outbox behind GET /api/changes: one row per project, member or status change,
+-- written in the transaction of the change itself.
+-- Rows are read in (tx_id, id) order and only once their transaction id is below the oldest
+-- running transaction, so a transaction that commits late can never be skipped by a cursor.
+CREATE TABLE IF NOT EXISTS change_event (
+    id          BIGSERIAL PRIMARY KEY,
+    tx_id       BIGINT      NOT NULL DEFAULT (pg_current_xact_id()::text::bigint),
+    entity_type VARCHAR(20) NOT NULL,
+    change_type VARCHAR(20) NOT NULL,
+    project_id  UUID        NOT NULL,
+    entity_id   UUID        NOT NULL,
+    payload     JSONB,
+    created_at  TIMESTAMP   NOT NULL DEFAULT now()
+);
+
+CREATE INDEX IF NOT EXISTS idx_change_event_cursor ON change_event (tx_id, id);
+CREATE INDEX IF NOT EXISTS idx_change_event_project_cursor ON change_event (project_id, tx_id, id);
+CREATE INDEX IF NOT EXISTS idx_change_event_created ON change_event (created_at);
+
+-- Highest (tx_id, id) removed by the retention purge; older cursors get 410 Gone
+CREATE TABLE IF NOT EXISTS change_event_watermark (
+    singleton BOOLEAN PRIMARY KEY DEFAULT TRUE CHECK (singleton),
+    tx_id     BIGINT NOT NULL,
+    event_id  BIGINT NOT NULL
+);
@@ -1,10 +1,9 @@
 package com.taskflow.project_service;
 
+import com.taskflow.project_service.support.IntegrationTest;
 import org.junit.jupiter.api.Test;
-import org.springframework.boot.test.context.SpringBootTest;
 
-@SpringBootTest
-class ProjectServiceApplicationTests {
+class ProjectServiceApplicationTests extends IntegrationTest {
 
 	@Test
 	void contextLoads() {
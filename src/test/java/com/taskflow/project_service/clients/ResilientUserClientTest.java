@@ -0,0 +1,136 @@
+package com.taskflow.project_service.clients;
+
+import com.taskflow.project_service.dto.UserResponse;
+import feign.FeignException;
+import feign.Request;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ResilientUserClientTest {
+
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+	private ResilientUserClient client;
+
+	@AfterEach
+	void shutdown() {
+		client.shutdown();
+	}
+
+	@Test
+	void givesUpAfterTheMethodTimeout() {
+		client = resilient(id -> sleepThenAnswer(id, Duration.ofSeconds(2)), false);
+
+		long start = System.nanoTime();
+		RuntimeException error = assertThrows(RuntimeException.class, () -> client.getUserById(UUID.randomUUID()));
+
+		assertTrue(error.getMessage().contains("did not answer in time"), error.getMessage());
+		assertTrue(Duration.ofNanos(System.nanoTime() - start).compareTo(Duration.ofSeconds(1)) < 0);
+	}
+
+	@Test
+	void failsFastOnceTheBreakerIsOpen() {
+		AtomicInteger calls = new AtomicInteger();
+		client = resilient(id -> {
+			calls.incrementAndGet();
+			throw new RuntimeException("connection refused");
+		}, false);
+
+		for (int i = 0; i < 10; i++) {
+			assertThrows(RuntimeException.class, () -> client.getUserById(UUID.randomUUID()));
+		}
+		assertThrows(CallNotPermittedException.class, () -> client.getUserById(UUID.randomUUID()));
+		assertEquals(10, calls.get());
+	}
+
+	@Test
+	void passesClientErrorsThroughWithoutOpeningTheBreaker() {
+		client = resilient(id -> {
+			throw notFound();
+		}, false);
+
+		for (int i = 0; i < 20; i++) {
+			FeignException error = assertThrows(FeignException.class, () -> client.getUserById(UUID.randomUUID()));
+			assertEquals(404, error.status());
+		}
+	}
+
+	@Test
+	void hedgesASlowReadAndTakesTheFasterAnswer() {
+		AtomicInteger calls = new AtomicInteger();
+		client = resilient(id -> sleepThenAnswer(id, calls.getAndIncrement() == 0 ? Duration.ofSeconds(2) : Duration.ZERO), true);
+
+		UUID id = UUID.randomUUID();
+		long start = System.nanoTime();
+		UserResponse user = client.getUserById(id);
+
+		assertEquals(id, user.getId());
+		assertTrue(Duration.ofNanos(System.nanoTime() - start).compareTo(Duration.ofSeconds(1)) < 0);
+		assertEquals(2, calls.get());
+		assertEquals(1.0, meterRegistry.get("ums.client.hedges").tag("method", "getUserById").counter().count());
+	}
+
+	private ResilientUserClient resilient(Function<UUID, UserResponse> getUserById, boolean hedging) {
+		return new ResilientUserClient(new StubUserClient(getUserById), meterRegistry,
+				Duration.ofMillis(500), Duration.ofMillis(500), 8, Duration.ZERO,
+				50, Duration.ofSeconds(1), 10, 10, Duration.ofMinutes(1), hedging, Duration.ofMillis(50));
+	}
+
+	private static UserResponse sleepThenAnswer(UUID id, Duration delay) {
+		try {
+			Thread.sleep(delay);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+		UserResponse user = new UserResponse();
+		user.setId(id);
+		return user;
+	}
+
+	private static FeignException notFound() {
+		Request request = Request.create(Request.HttpMethod.GET, "/api/users", Map.of(), null, StandardCharsets.UTF_8, null);
+		return new FeignException.NotFound("not found", request, null, Map.of());
+	}
+
+	private record StubUserClient(Function<UUID, UserResponse> getUserById) implements UserClient {
+
+		@Override
+		public UserResponse getUserById(UUID id) {
+			return getUserById.apply(id);
+		}
+
+		@Override
+		public UserResponse getUserByEmail(String email) {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public UserResponse getUserByKeycloakId(String keycloakId) {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public List<UserResponse> getUsersByIds(Collection<UUID> ids) {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public List<UserResponse> getUsersByEmails(Collection<String> emails) {
+			throw new UnsupportedOperationException();
+		}
+	}
+}
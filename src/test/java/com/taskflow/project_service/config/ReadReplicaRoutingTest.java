@@ -0,0 +1,84 @@
+package com.taskflow.project_service.config;
+
+import com.taskflow.project_service.support.ApiClient;
+import com.taskflow.project_service.support.IntegrationTest;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.TestPropertySource;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Routing with a replica pool configured. The "replica" is the same database opened with
+ * read-only sessions, so a write routed there would fail the request. The replica pool only exists
+ * with these properties, so this suite gets an application context of its own.
+ */
+@TestPropertySource(properties = {
+		"datasource.replica.url=${spring.datasource.url}",
+		"datasource.replica.hikari.connection-init-sql=SET SESSION CHARACTERISTICS AS TRANSACTION READ ONLY",
+		"datasource.replica.read-your-writes-window=1h"})
+class ReadReplicaRoutingTest extends IntegrationTest {
+
+	@Autowired
+	private MeterRegistry meterRegistry;
+
+	@Test
+	void readsGoToTheReplicaAndWritesToThePrimary() {
+		UUID ownerId = UUID.randomUUID();
+		UUID projectId = client(ownerId).createProject(ownerId);
+		ApiClient reader = client(UUID.randomUUID());
+
+		Routes routes = routes(() -> {
+			assertThat(reader.get("/api/projects/" + projectId).status()).isEqualTo(200);
+			assertThat(reader.get("/api/projects?limit=10").status()).isEqualTo(200);
+			assertThat(reader.get("/api/projects/" + projectId + "/members").status()).isEqualTo(200);
+		});
+		assertThat(routes.primary()).isZero();
+		assertThat(routes.replica()).isPositive();
+		assertThat(meterRegistry.find("hikaricp.connections").tag("pool", "replica").gauge()).isNotNull();
+		assertThat(meterRegistry.find("hikaricp.connections").tag("pool", "primary").gauge()).isNotNull();
+	}
+
+	@Test
+	void theWriterReadsFromThePrimaryAfterAWrite() {
+		UUID ownerId = UUID.randomUUID();
+		ApiClient writer = client(ownerId);
+		UUID projectId = writer.createProject(ownerId);
+		assertThat(writer.post("/api/projects/" + projectId + "/members",
+				Map.of("userId", UUID.randomUUID(), "role", "MEMBER")).status()).isEqualTo(200);
+
+		Routes routes = routes(() -> assertThat(writer.get("/api/projects/" + projectId + "/members").json()).hasSize(2));
+		assertThat(routes.replica()).isZero();
+		assertThat(routes.primary()).isPositive();
+	}
+
+	@Test
+	void membershipChecksStayOnThePrimary() {
+		UUID ownerId = UUID.randomUUID();
+		UUID projectId = client(ownerId).createProject(ownerId);
+		ApiClient checker = client(UUID.randomUUID());
+
+		Routes routes = routes(() -> assertThat(checker.post("/api/projects/access-check",
+				Map.of("userId", ownerId, "projectIds", List.of(projectId))).status()).isEqualTo(200));
+		assertThat(routes.replica()).isZero();
+	}
+
+	private Routes routes(Runnable requests) {
+		double primary = count("primary");
+		double replica = count("replica");
+		requests.run();
+		return new Routes(count("primary") - primary, count("replica") - replica);
+	}
+
+	private double count(String route) {
+		return meterRegistry.get("db.route").tag("route", route).counter().count();
+	}
+
+	private record Routes(double primary, double replica) {
+	}
+}
@@ -0,0 +1,105 @@
+package com.taskflow.project_service.controllers;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.taskflow.project_service.support.ApiClient;
+import com.taskflow.project_service.support.IntegrationTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * PATCH /members/roles and DELETE /members/bulk: counts of what changed, the member list and the
+ * change feed follow, and the last owner can be neither demoted nor removed.
+ */
+class BulkMemberChangeTest extends IntegrationTest {
+
+	private ApiClient api;
+	private UUID ownerId;
+	private UUID projectId;
+	private String members;
+
+	@BeforeEach
+	void createProject() {
+		ownerId = UUID.randomUUID();
+		api = client(ownerId);
+		projectId = api.createProject(ownerId);
+		members = "/api/projects/" + projectId + "/members";
+	}
+
+	@Test
+	void rolesChangeForListedMembersOnly() {
+		List<UUID> userIds = addMembers(3, "MEMBER");
+		assertThat(api.put(members + "/" + userIds.get(2) + "/role?role=VIEWER", Map.of()).status()).isEqualTo(200);
+		String head = api.get("/api/changes/head").json().get("nextCursor").asText();
+
+		JsonNode result = api.patch(members + "/roles",
+				Map.of("userIds", List.of(userIds.get(0), userIds.get(2), UUID.randomUUID()), "role", "VIEWER")).json();
+
+		assertThat(result.get("affected").asInt()).isEqualTo(1);
+		assertThat(result.get("skipped").asInt()).isEqualTo(2);
+		assertThat(roles()).containsEntry(userIds.get(0), "VIEWER").containsEntry(userIds.get(1), "MEMBER");
+		JsonNode changes = api.get("/api/changes?since=" + head + "&projectId=" + projectId).json().get("changes");
+		assertThat(changes).hasSize(1);
+		assertThat(changes.get(0).get("entityId").asText()).isEqualTo(userIds.get(0).toString());
+		assertThat(changes.get(0).get("payload").get("role").asText()).isEqualTo("VIEWER");
+	}
+
+	@Test
+	void membersAreRemovedTogether() {
+		List<UUID> userIds = addMembers(3, "MEMBER");
+
+		JsonNode result = api.delete(members + "/bulk", Map.of("userIds", userIds.subList(0, 2))).json();
+
+		assertThat(result.get("affected").asInt()).isEqualTo(2);
+		assertThat(roles()).containsOnlyKeys(ownerId, userIds.get(2));
+	}
+
+	@Test
+	void lastOwnerCannotBeDemotedOrRemoved() {
+		List<UUID> userIds = addMembers(2, "MEMBER");
+		List<UUID> withOwner = new ArrayList<>(userIds);
+		withOwner.add(ownerId);
+
+		assertThat(api.patch(members + "/roles", Map.of("userIds", withOwner, "role", "ADMIN")).status()).isEqualTo(400);
+		assertThat(api.delete(members + "/bulk", Map.of("userIds", withOwner)).status()).isEqualTo(400);
+		assertThat(api.put(members + "/" + ownerId + "/role?role=ADMIN", Map.of()).status()).isEqualTo(400);
+		// Nothing changed, not even the members listed next to the owner
+		assertThat(roles()).containsEntry(ownerId, "OWNER").containsEntry(userIds.get(0), "MEMBER").hasSize(3);
+
+		// With a second owner, the first can go
+		assertThat(api.patch(members + "/roles", Map.of("userIds", userIds.subList(0, 1), "role", "OWNER")).status()).isEqualTo(200);
+		assertThat(api.delete(members + "/bulk", Map.of("userIds", List.of(ownerId))).json().get("affected").asInt()).isEqualTo(1);
+	}
+
+	@Test
+	void emptyListIsRejected() {
+		assertThat(api.patch(members + "/roles", Map.of("userIds", List.of(), "role", "VIEWER")).status()).isEqualTo(400);
+		assertThat(api.delete(members + "/bulk", Map.of("userIds", List.of())).status()).isEqualTo(400);
+	}
+
+	private List<UUID> addMembers(int count, String role) {
+		List<UUID> userIds = new ArrayList<>();
+		List<Map<String, Object>> entries = new ArrayList<>();
+		for (int i = 0; i < count; i++) {
+			UUID userId = UUID.randomUUID();
+			userIds.add(userId);
+			entries.add(Map.of("userId", userId, "role", role));
+		}
+		assertThat(api.post(members + "/bulk", Map.of("members", entries)).status()).isEqualTo(200);
+		return userIds;
+	}
+
+	private Map<UUID, String> roles() {
+		Map<UUID, String> roles = new HashMap<>();
+		api.get(members).json().forEach(member ->
+				roles.put(UUID.fromString(member.get("userId").asText()), member.get("role").asText()));
+		return roles;
+	}
+}
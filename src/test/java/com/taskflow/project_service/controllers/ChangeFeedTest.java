@@ -0,0 +1,167 @@
+package com.taskflow.project_service.controllers;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.taskflow.project_service.service.ChangeCursor;
+import com.taskflow.project_service.service.ChangeFeedService;
+import com.taskflow.project_service.support.ApiClient;
+import com.taskflow.project_service.support.IntegrationTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * GET /api/changes and its SSE variant: every project, member and status change shows up once,
+ * in commit order, after the cursor the client holds.
+ */
+class ChangeFeedTest extends IntegrationTest {
+
+	@Autowired
+	private ChangeFeedService changeFeedService;
+
+	private ApiClient api;
+	private UUID ownerId;
+	private UUID projectId;
+
+	@BeforeEach
+	void createProject() {
+		ownerId = UUID.randomUUID();
+		api = client(ownerId);
+		projectId = api.createProject(ownerId);
+	}
+
+	@Test
+	void projectChangesAreListedInOrder() {
+		UUID userId = UUID.randomUUID();
+		String members = "/api/projects/" + projectId + "/members";
+		assertThat(api.post(members, Map.of("userId", userId, "role", "MEMBER")).status()).isEqualTo(200);
+		assertThat(api.put(members + "/" + userId + "/role?role=ADMIN", Map.of()).status()).isEqualTo(200);
+		assertThat(api.delete(members + "/" + userId).status()).isEqualTo(204);
+
+		List<JsonNode> changes = changes("projectId=" + projectId + "&limit=1000");
+
+		assertThat(changes).extracting(change -> change.get("entityType").asText() + " " + change.get("changeType").asText())
+				.containsExactly("PROJECT UPSERT", "STATUS UPSERT", "STATUS UPSERT", "STATUS UPSERT",
+						"MEMBER UPSERT", "MEMBER UPSERT", "MEMBER UPSERT", "MEMBER DELETE");
+		assertThat(changes.get(0).get("payload").get("id").asText()).isEqualTo(projectId.toString());
+		assertThat(changes.get(4).get("entityId").asText()).isEqualTo(ownerId.toString());
+		assertThat(changes.get(4).get("payload").get("role").asText()).isEqualTo("OWNER");
+		assertThat(changes.get(6).get("entityId").asText()).isEqualTo(userId.toString());
+		assertThat(changes.get(6).get("payload").get("role").asText()).isEqualTo("ADMIN");
+		assertThat(changes.get(7).get("payload").isNull()).isTrue();
+	}
+
+	@Test
+	void pagesFollowTheNextCursor() {
+		List<JsonNode> all = changes("projectId=" + projectId + "&limit=1000");
+
+		List<JsonNode> paged = new ArrayList<>();
+		String since = "";
+		JsonNode batch;
+		do {
+			batch = api.get("/api/changes?projectId=" + projectId + "&limit=2" + since).json();
+			batch.get("changes").forEach(paged::add);
+			assertThat(batch.get("changes").size()).isLessThanOrEqualTo(2);
+			since = "&since=" + batch.get("nextCursor").asText();
+		} while (batch.get("hasMore").asBoolean());
+
+		assertThat(paged).isEqualTo(all);
+		// Caught up: the next call is empty and keeps the cursor where it is
+		assertThat(api.get("/api/changes?projectId=" + projectId + since).json().get("changes")).isEmpty();
+	}
+
+	@Test
+	void headCursorReturnsOnlyLaterChanges() {
+		String head = api.get("/api/changes/head").json().get("nextCursor").asText();
+		assertThat(api.get("/api/changes?since=" + head + "&projectId=" + projectId).json().get("changes")).isEmpty();
+
+		assertThat(api.put("/api/projects/" + projectId, renamed("Renamed")).status()).isEqualTo(200);
+
+		JsonNode changes = api.get("/api/changes?since=" + head + "&projectId=" + projectId).json().get("changes");
+		assertThat(changes).hasSize(1);
+		assertThat(changes.get(0).get("payload").get("name").asText()).isEqualTo("Renamed");
+		assertThat(changes.get(0).get("payload").get("version").asLong()).isEqualTo(1);
+	}
+
+	@Test
+	void cursorsBehindThePurgeAreGone() {
+		String head = api.get("/api/changes/head").json().get("nextCursor").asText();
+		assertThat(api.put("/api/projects/" + projectId, renamed("Purged")).status()).isEqualTo(200);
+
+		// Retention is 0s here, so the purge removes the rename
+		changeFeedService.purge();
+
+		ApiClient.Response expired = api.get("/api/changes?since=" + head);
+		assertThat(expired.status()).isEqualTo(410);
+		String newHead = api.get("/api/changes/head").json().get("nextCursor").asText();
+		assertThat(api.get("/api/changes?since=" + newHead).status()).isEqualTo(200);
+	}
+
+	@Test
+	void malformedCursorIsRejected() {
+		assertThat(api.get("/api/changes?since=not-a-cursor").status()).isEqualTo(400);
+		assertThat(ChangeCursor.decode(new ChangeCursor(42, 7).encode())).isEqualTo(new ChangeCursor(42, 7));
+	}
+
+	@Test
+	void streamPushesChangesOfTheProject() throws InterruptedException {
+		UUID otherProjectId = api.createProject(ownerId);
+		HttpResponse<Stream<String>> stream = api.stream("/api/changes/stream?projectId=" + projectId);
+		assertThat(stream.statusCode()).isEqualTo(200);
+		BlockingQueue<String> lines = new LinkedBlockingQueue<>();
+		Thread.ofVirtual().start(() -> stream.body().forEach(lines::add));
+
+		try {
+			assertThat(api.put("/api/projects/" + otherProjectId, renamed("Other")).status()).isEqualTo(200);
+			assertThat(api.put("/api/projects/" + projectId, renamed("Streamed")).status()).isEqualTo(200);
+
+			List<String> event = nextEvent(lines);
+			assertThat(event).anyMatch(line -> line.startsWith("id:"));
+			assertThat(event).contains("event:change");
+			String data = event.stream().filter(line -> line.startsWith("data:")).findFirst().orElseThrow();
+			assertThat(data).contains(projectId.toString()).contains("Streamed").doesNotContain("Other");
+		} finally {
+			stream.body().close();
+		}
+	}
+
+	// Lines of the next SSE event (up to the blank line that ends it), skipping heartbeat comments
+	private static List<String> nextEvent(BlockingQueue<String> lines) throws InterruptedException {
+		List<String> event = new ArrayList<>();
+		while (true) {
+			String line = lines.poll(10, TimeUnit.SECONDS);
+			assertThat(line).as("SSE line within 10s").isNotNull();
+			if (line.isEmpty()) {
+				if (!event.isEmpty()) {
+					return event;
+				}
+			} else if (!line.startsWith(":")) {
+				event.add(line);
+			}
+		}
+	}
+
+	private List<JsonNode> changes(String query) {
+		ApiClient.Response response = api.get("/api/changes?" + query);
+		assertThat(response.status()).isEqualTo(200);
+		assertThat(response.json().get("hasMore").asBoolean()).isFalse();
+		List<JsonNode> changes = new ArrayList<>();
+		response.json().get("changes").forEach(changes::add);
+		return changes;
+	}
+
+	private Map<String, Object> renamed(String name) {
+		return Map.of("name", name, "projectKey", "R" + (System.nanoTime() % 100_000_000), "type", "SCRUM", "ownerId", ownerId);
+	}
+}
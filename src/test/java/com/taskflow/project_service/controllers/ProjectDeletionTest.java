@@ -0,0 +1,110 @@
+package com.taskflow.project_service.controllers;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.taskflow.project_service.service.ProjectPurger;
+import com.taskflow.project_service.support.ApiClient;
+import com.taskflow.project_service.support.IntegrationTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * DELETE /api/projects/{id}: the project is gone from every read path at once, its key is free
+ * again, and the purger later removes the row together with its members and statuses.
+ */
+class ProjectDeletionTest extends IntegrationTest {
+
+	@Autowired
+	private ProjectPurger projectPurger;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	private ApiClient api;
+	private UUID ownerId;
+	private UUID projectId;
+	private String projectKey;
+
+	@BeforeEach
+	void createProject() {
+		ownerId = UUID.randomUUID();
+		api = client(ownerId);
+		projectId = api.createProject(ownerId);
+		projectKey = api.get("/api/projects/" + projectId).json().get("projectKey").asText();
+		List<Map<String, Object>> members = new ArrayList<>();
+		for (int i = 0; i < 5; i++) {
+			members.add(Map.of("userId", UUID.randomUUID(), "role", "MEMBER"));
+		}
+		assertThat(api.post("/api/projects/" + projectId + "/members/bulk", Map.of("members", members)).status()).isEqualTo(200);
+	}
+
+	@Test
+	void deletedProjectDisappearsRightAway() {
+		// Warm the caches the reads below would otherwise be served from
+		assertThat(api.get("/api/projects/" + projectId + "/statuses").json()).hasSize(3);
+		List<JsonNode> statuses = new ArrayList<>();
+		api.get("/api/projects/" + projectId + "/statuses").json().forEach(statuses::add);
+		assertThat(api.put("/api/projects/" + projectId + "/transitions", List.of(Map.of(
+				"fromCode", statuses.get(0).get("code").asText(), "toCode", statuses.get(1).get("code").asText()))).status())
+				.isEqualTo(200);
+		assertThat(api.get("/api/projects/" + projectId + "/members").json()).hasSize(6);
+		assertThat(api.get("/api/projects").json()).extracting(project -> project.get("id").asText())
+				.contains(projectId.toString());
+
+		assertThat(api.delete("/api/projects/" + projectId).status()).isEqualTo(204);
+
+		assertThat(api.get("/api/projects/" + projectId).status()).isEqualTo(404);
+		assertThat(api.delete("/api/projects/" + projectId).status()).isEqualTo(404);
+		assertThat(api.get("/api/projects/" + projectId + "/members").json()).isEmpty();
+		assertThat(api.get("/api/projects/" + projectId + "/statuses").json()).isEmpty();
+		assertThat(api.get("/api/projects/" + projectId + "/transitions").json()).isEmpty();
+		assertThat(api.post("/api/projects/batch", Map.of("ids", List.of(projectId))).json().get("notFound"))
+				.extracting(JsonNode::asText).containsExactly(projectId.toString());
+		assertThat(api.get("/api/projects/search?q=" + projectKey).json()).isEmpty();
+		assertThat(api.get("/api/projects/mine?limit=50").json().get("items")).isEmpty();
+		assertThat(api.get("/api/projects").json()).extracting(project -> project.get("id").asText())
+				.doesNotContain(projectId.toString());
+		assertThat(api.post("/api/projects/" + projectId + "/members",
+				Map.of("userId", UUID.randomUUID(), "role", "MEMBER")).status()).isEqualTo(400);
+	}
+
+	@Test
+	void deletedProjectGivesUpItsKey() {
+		assertThat(api.delete("/api/projects/" + projectId).status()).isEqualTo(204);
+
+		assertThat(api.get("/api/projects/keys/" + projectKey + "/available").json().get("available").asBoolean()).isTrue();
+		assertThat(api.post("/api/projects", Map.of("name", "Again", "projectKey", projectKey, "type", "SCRUM",
+				"ownerId", ownerId)).status()).isEqualTo(200);
+	}
+
+	@Test
+	void purgeRemovesTheProjectAndItsRows() {
+		assertThat(api.delete("/api/projects/" + projectId).status()).isEqualTo(204);
+		assertThat(rowCount("project_member")).isEqualTo(6);
+
+		// Oldest deletions first: other runs may have left deleted projects in a shared database
+		while (rowCount("projects") > 0) {
+			assertThat(projectPurger.purge()).isPositive();
+		}
+
+		assertThat(rowCount("project_member")).isZero();
+		assertThat(rowCount("workflow_status")).isZero();
+		JsonNode status = api.get("/api/projects/purge/status").json();
+		assertThat(status.get("running").asBoolean()).isFalse();
+		// 6 members in batches of 2, 3 statuses and the project
+		assertThat(status.get("lastRunRowsPurged").asLong()).isGreaterThanOrEqualTo(10);
+		assertThat(status.get("lastRunFinishedAt").isNull()).isFalse();
+	}
+
+	private long rowCount(String table) {
+		return jdbcTemplate.queryForObject("SELECT count(*) FROM " + table + " WHERE project_id = ?", Long.class, projectId);
+	}
+}
@@ -0,0 +1,46 @@
+package com.taskflow.project_service.controllers;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.taskflow.project_service.support.ApiClient;
+import com.taskflow.project_service.support.IntegrationTest;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * GET /api/projects without paging parameters: the full list as one array, read in keyset chunks
+ * of projects.stream.fetch-size (3 here) that join without gaps or repeats.
+ */
+class ProjectExportTest extends IntegrationTest {
+
+	@Test
+	void exportListsEveryProjectOnceInOrderAcrossChunks() {
+		UUID ownerId = UUID.randomUUID();
+		ApiClient api = client(ownerId);
+		List<String> created = new ArrayList<>();
+		for (int i = 0; i < 7; i++) {
+			created.add(api.createProject(ownerId).toString());
+		}
+
+		ApiClient.Response response = api.get("/api/projects");
+
+		assertThat(response.status()).isEqualTo(200);
+		JsonNode projects = response.json();
+		Set<String> ids = new HashSet<>();
+		LocalDateTime previous = LocalDateTime.MIN;
+		for (JsonNode project : projects) {
+			assertThat(ids.add(project.get("id").asText())).isTrue();
+			LocalDateTime createdAt = LocalDateTime.parse(project.get("createdAt").asText());
+			assertThat(createdAt).isAfterOrEqualTo(previous);
+			previous = createdAt;
+		}
+		assertThat(ids).containsAll(created);
+	}
+}
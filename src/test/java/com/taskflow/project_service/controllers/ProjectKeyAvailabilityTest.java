@@ -0,0 +1,111 @@
+package com.taskflow.project_service.controllers;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.taskflow.project_service.support.ApiClient;
+import com.taskflow.project_service.support.IntegrationTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * GET /api/projects/keys/{key}/available and the key check in front of project creation and
+ * renames: taken keys are reported with free alternatives, and creating or renaming to one is a 409.
+ */
+class ProjectKeyAvailabilityTest extends IntegrationTest {
+
+	private ApiClient api;
+	private UUID ownerId;
+
+	@BeforeEach
+	void createCaller() {
+		ownerId = UUID.randomUUID();
+		api = client(ownerId);
+	}
+
+	@Test
+	void freeKeyIsAvailable() {
+		String key = randomKey();
+
+		JsonNode availability = availability(key.toLowerCase(Locale.ROOT));
+
+		assertThat(availability.get("key").asText()).isEqualTo(key);
+		assertThat(availability.get("available").asBoolean()).isTrue();
+		assertThat(availability.get("suggestions")).isEmpty();
+	}
+
+	@Test
+	void takenKeyComesWithFreeSuggestions() {
+		String key = randomKey();
+		createProject(key);
+		createProject(key + "2");
+
+		JsonNode availability = availability(key);
+
+		assertThat(availability.get("available").asBoolean()).isFalse();
+		assertThat(availability.get("suggestions")).extracting(JsonNode::asText)
+				.hasSize(5)
+				.doesNotContain(key + "2")
+				.startsWith(key + "3")
+				.allSatisfy(suggestion -> assertThat(availability(suggestion).get("available").asBoolean()).isTrue());
+	}
+
+	@Test
+	void creatingATakenKeyIsAConflict() {
+		String key = randomKey();
+		createProject(key);
+
+		ApiClient.Response response = api.post("/api/projects", Map.of(
+				"name", "Second", "projectKey", key.toLowerCase(Locale.ROOT), "type", "SCRUM", "ownerId", ownerId));
+
+		assertThat(response.status()).isEqualTo(409);
+		assertThat(response.json().get("errors").get("suggestions").asText()).startsWith(key + "2");
+	}
+
+	@Test
+	void renamingToATakenKeyIsAConflict() {
+		String key = randomKey();
+		createProject(key);
+		String otherKey = randomKey();
+		UUID otherId = createProject(otherKey);
+
+		ApiClient.Response response = api.put("/api/projects/" + otherId, update("Renamed", key.toLowerCase(Locale.ROOT)));
+
+		assertThat(response.status()).isEqualTo(409);
+		assertThat(response.json().get("errors").get("suggestions").asText()).startsWith(key + "2");
+		// Keeping its own key is no conflict, and unknown projects are still a 404
+		assertThat(api.put("/api/projects/" + otherId, update("Renamed", otherKey)).status()).isEqualTo(200);
+		assertThat(api.put("/api/projects/" + UUID.randomUUID(), update("Nobody", randomKey())).status()).isEqualTo(404);
+	}
+
+	@Test
+	void keysOfTheWrongLengthAreRejected() {
+		assertThat(api.get("/api/projects/keys/A/available").status()).isEqualTo(400);
+		assertThat(api.get("/api/projects/keys/ABCDEFGHIJK/available").status()).isEqualTo(400);
+	}
+
+	private JsonNode availability(String key) {
+		ApiClient.Response response = api.get("/api/projects/keys/" + key + "/available");
+		assertThat(response.status()).isEqualTo(200);
+		return response.json();
+	}
+
+	private UUID createProject(String key) {
+		ApiClient.Response response = api.post("/api/projects", Map.of(
+				"name", "Keys " + key, "projectKey", key, "type", "SCRUM", "ownerId", ownerId));
+		assertThat(response.status()).isEqualTo(200);
+		return UUID.fromString(response.json().get("id").asText());
+	}
+
+	private Map<String, Object> update(String name, String key) {
+		return Map.of("name", name, "projectKey", key, "type", "SCRUM", "ownerId", ownerId);
+	}
+
+	private static String randomKey() {
+		return "K" + Long.toString(System.nanoTime() % 1_000_000_000L, 36).toUpperCase(Locale.ROOT);
+	}
+}
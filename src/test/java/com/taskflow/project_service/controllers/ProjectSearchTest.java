@@ -0,0 +1,127 @@
+package com.taskflow.project_service.controllers;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.taskflow.project_service.support.ApiClient;
+import com.taskflow.project_service.support.IntegrationTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * GET /api/projects/search: prefix matches from the in-memory index, fragments from the trigram
+ * fallback, ranked by match quality and limited to the caller's projects.
+ */
+class ProjectSearchTest extends IntegrationTest {
+
+	private ApiClient api;
+	private UUID ownerId;
+	// Random token, so projects left in a shared database by other runs never match
+	private String token;
+
+	@BeforeEach
+	void createCaller() {
+		ownerId = UUID.randomUUID();
+		api = client(ownerId);
+		StringBuilder random = new StringBuilder("Q");
+		for (int i = 0; i < 6; i++) {
+			random.append((char) ('A' + ThreadLocalRandom.current().nextInt(26)));
+		}
+		token = random.toString();
+	}
+
+	@Test
+	void prefixMatchesAreRankedAndLimitedToTheCallersProjects() {
+		createProject(token + "X", "Other");
+		createProject(token, "Zeta");
+		createProject(randomKey(), "Team " + token.toLowerCase(Locale.ROOT));
+		createProject(randomKey(), token.toLowerCase(Locale.ROOT) + " board");
+		UUID strangerId = UUID.randomUUID();
+		createProject(client(strangerId), strangerId, token + "Y", "Not mine");
+
+		JsonNode hits = search(token.toLowerCase(Locale.ROOT));
+
+		assertThat(hits).extracting(hit -> hit.get("match").asText())
+				.containsExactly("KEY_EXACT", "KEY_PREFIX", "NAME_PREFIX", "WORD_PREFIX");
+		assertThat(hits.get(0).get("projectKey").asText()).isEqualTo(token);
+		assertThat(hits.get(0).get("role").asText()).isEqualTo("OWNER");
+		assertThat(hits).extracting(hit -> hit.get("projectKey").asText()).doesNotContain(token + "Y");
+		assertThat(api.get("/api/projects/search?q=" + token + "&limit=2").json()).hasSize(2);
+	}
+
+	@Test
+	void callersProjectsAreFoundPastTheCandidateLimit() {
+		// One of the caller's projects sorts first, then more than projects.search.max-candidates (20)
+		// strangers' projects, then the caller's better matches
+		createProject(token + "A", "First");
+		UUID strangerId = UUID.randomUUID();
+		ApiClient stranger = client(strangerId);
+		for (int i = 0; i < 25; i++) {
+			createProject(stranger, strangerId, token + "B" + (char) ('A' + i), "Not mine");
+		}
+		createProject(randomKey(), token.toLowerCase(Locale.ROOT) + "zz board");
+		createProject(token + "Z", "Other");
+
+		JsonNode hits = search(token);
+
+		assertThat(hits).extracting(hit -> hit.get("match").asText()).containsExactly("KEY_PREFIX", "KEY_PREFIX", "NAME_PREFIX");
+		assertThat(hits).extracting(hit -> hit.get("projectKey").asText()).startsWith(token + "A", token + "Z");
+		assertThat(hits).extracting(hit -> hit.get("role").asText()).containsOnly("OWNER");
+	}
+
+	@Test
+	void renamesAreSearchableRightAway() {
+		UUID projectId = createProject(randomKey(), "Before " + token);
+		assertThat(search(token)).hasSize(1);
+
+		String renamed = token + "Z";
+		assertThat(api.put("/api/projects/" + projectId, Map.of("name", "After", "projectKey", renamed,
+				"type", "SCRUM", "ownerId", ownerId)).status()).isEqualTo(200);
+
+		JsonNode hits = search(renamed);
+		assertThat(hits).hasSize(1);
+		assertThat(hits.get(0).get("name").asText()).isEqualTo("After");
+		assertThat(hits.get(0).get("match").asText()).isEqualTo("KEY_EXACT");
+	}
+
+	@Test
+	void fragmentsFallBackToTrigramSearch() {
+		createProject(randomKey(), "Big" + token.toLowerCase(Locale.ROOT) + "plan");
+
+		JsonNode hits = search(token.substring(2));
+
+		assertThat(hits).hasSize(1);
+		assertThat(hits.get(0).get("match").asText()).isEqualTo("FUZZY");
+	}
+
+	@Test
+	void blankQueryIsRejected() {
+		assertThat(api.get("/api/projects/search?q=%20").status()).isEqualTo(400);
+	}
+
+	private JsonNode search(String q) {
+		ApiClient.Response response = api.get("/api/projects/search?q=" + q);
+		assertThat(response.status()).isEqualTo(200);
+		return response.json();
+	}
+
+	private UUID createProject(String key, String name) {
+		return createProject(api, ownerId, key, name);
+	}
+
+	private static UUID createProject(ApiClient client, UUID ownerId, String key, String name) {
+		ApiClient.Response response = client.post("/api/projects", Map.of(
+				"name", name, "projectKey", key, "type", "SCRUM", "ownerId", ownerId));
+		assertThat(response.status()).isEqualTo(200);
+		return UUID.fromString(response.json().get("id").asText());
+	}
+
+	private static String randomKey() {
+		return "R" + Long.toString(System.nanoTime() % 1_000_000_000L, 36).toUpperCase(Locale.ROOT);
+	}
+}
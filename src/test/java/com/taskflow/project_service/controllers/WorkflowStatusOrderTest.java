@@ -0,0 +1,170 @@
+package com.taskflow.project_service.controllers;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.taskflow.project_service.service.ProjectService;
+import com.taskflow.project_service.service.WorkflowStatusRenormalizer;
+import com.taskflow.project_service.support.ApiClient;
+import com.taskflow.project_service.support.IntegrationTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Workflow status CRUD and reordering: a move writes only the moved status, stale versions are
+ * rejected, statuses still used by transitions stay, and positions are spread out again when moves
+ * run out of room.
+ */
+class WorkflowStatusOrderTest extends IntegrationTest {
+
+	@Autowired
+	private WorkflowStatusRenormalizer renormalizer;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	private ApiClient api;
+	private UUID projectId;
+	private String statuses;
+
+	@BeforeEach
+	void createProject() {
+		UUID ownerId = UUID.randomUUID();
+		api = client(ownerId);
+		projectId = api.createProject(ownerId);
+		statuses = "/api/projects/" + projectId + "/statuses";
+	}
+
+	@Test
+	void moveWritesOnlyTheMovedStatus() {
+		List<JsonNode> before = list();
+		JsonNode last = before.get(2);
+		String head = api.get("/api/changes/head").json().get("nextCursor").asText();
+
+		JsonNode moved = move(last, null).json();
+
+		assertThat(moved.get("version").asLong()).isEqualTo(last.get("version").asLong() + 1);
+		assertThat(codes()).containsExactly(last.get("code").asText(), before.get(0).get("code").asText(),
+				before.get(1).get("code").asText());
+		JsonNode changes = api.get("/api/changes?since=" + head + "&projectId=" + projectId).json().get("changes");
+		assertThat(changes).hasSize(1);
+		assertThat(changes.get(0).get("entityId").asText()).isEqualTo(last.get("id").asText());
+		// The untouched statuses keep their positions
+		assertThat(list().subList(1, 3)).extracting(status -> status.get("position").asInt())
+				.containsExactly(before.get(0).get("position").asInt(), before.get(1).get("position").asInt());
+	}
+
+	@Test
+	void staleVersionIsRejected() {
+		JsonNode first = list().get(0);
+		JsonNode last = list().get(2);
+		assertThat(move(first, last.get("id").asText()).status()).isEqualTo(200);
+
+		ApiClient.Response stale = move(first, null);
+
+		assertThat(stale.status()).isEqualTo(409);
+		assertThat(codes().get(2)).isEqualTo(first.get("code").asText());
+	}
+
+	@Test
+	void crowdedPositionsAreSpreadOut() {
+		// Moving the last status to the front over and over halves the room in front of the first one;
+		// the eleventh move finds none left and spreads the positions itself
+		List<String> expected = new ArrayList<>(codes());
+		for (int i = 0; i < 20; i++) {
+			JsonNode last = list().get(2);
+			assertThat(move(last, null).status()).isEqualTo(200);
+			expected.add(0, expected.remove(2));
+		}
+		assertThat(codes()).isEqualTo(expected);
+		assertThat(list().get(0).get("position").asInt()).isLessThan(8);
+
+		renormalizer.renormalize();
+
+		assertThat(codes()).isEqualTo(expected);
+		assertThat(list()).extracting(status -> status.get("position").asInt())
+				.containsExactly(ProjectService.STATUS_ORDER_GAP, 2 * ProjectService.STATUS_ORDER_GAP, 3 * ProjectService.STATUS_ORDER_GAP);
+	}
+
+	@Test
+	void statusesCanBeAddedEditedAndRemoved() {
+		List<JsonNode> before = list();
+		JsonNode review = api.post(statuses, Map.of("statusName", "Review", "code", "REVIEW",
+				"afterStatusId", before.get(1).get("id").asText())).json();
+		JsonNode archived = api.post(statuses, Map.of("statusName", "Archived", "code", "ARCHIVED")).json();
+		assertThat(codes()).containsExactly(before.get(0).get("code").asText(), before.get(1).get("code").asText(),
+				"REVIEW", before.get(2).get("code").asText(), "ARCHIVED");
+		assertThat(api.post(statuses, Map.of("statusName", "Again", "code", "REVIEW")).status()).isEqualTo(400);
+
+		Map<String, Object> edit = new HashMap<>(Map.of("statusName", "Code review", "code", "REVIEW",
+				"isFinal", false, "version", review.get("version").asLong()));
+		ApiClient.Response edited = api.put(statuses + "/" + review.get("id").asText(), edit);
+		assertThat(edited.status()).isEqualTo(200);
+		assertThat(edited.json().get("statusName").asText()).isEqualTo("Code review");
+		assertThat(api.put(statuses + "/" + review.get("id").asText(), edit).status()).isEqualTo(409);
+
+		String archivedPath = statuses + "/" + archived.get("id").asText();
+		assertThat(api.delete(archivedPath).status()).isEqualTo(400);
+		assertThat(api.delete(archivedPath + "?version=" + (archived.get("version").asLong() + 1)).status()).isEqualTo(409);
+		assertThat(api.delete(archivedPath + "?version=" + archived.get("version").asLong()).status()).isEqualTo(204);
+		assertThat(codes()).doesNotContain("ARCHIVED").contains("REVIEW");
+		assertThat(jdbcTemplate.queryForObject("SELECT count(*) FROM workflow_status WHERE status_id = ?",
+				Long.class, UUID.fromString(archived.get("id").asText()))).isZero();
+	}
+
+	@Test
+	void restrictedWorkflowStaysRestrictedWhenAStatusIsDeleted() {
+		List<JsonNode> before = list();
+		String first = before.get(0).get("code").asText();
+		String second = before.get(1).get("code").asText();
+		String third = before.get(2).get("code").asText();
+		String transitions = "/api/projects/" + projectId + "/transitions";
+		assertThat(api.put(transitions, List.of(Map.of("fromCode", first, "toCode", second))).status()).isEqualTo(200);
+		String secondPath = statuses + "/" + before.get(1).get("id").asText() + "?version=" + before.get(1).get("version").asLong();
+
+		// Still used by the only transition: deleting it would leave none, which means "anything goes"
+		assertThat(api.delete(secondPath).status()).isEqualTo(400);
+		assertThat(codes()).contains(second);
+		assertThat(allowed(third, first)).isFalse();
+
+		assertThat(api.put(transitions, List.of(Map.of("fromCode", first, "toCode", third))).status()).isEqualTo(200);
+		assertThat(api.delete(secondPath).status()).isEqualTo(204);
+		assertThat(api.get(transitions).json()).hasSize(1);
+		assertThat(allowed(first, third)).isTrue();
+		assertThat(allowed(third, first)).isFalse();
+	}
+
+	private boolean allowed(String fromCode, String toCode) {
+		ApiClient.Response response = api.post("/api/projects/transitions/check", Map.of("checks",
+				List.of(Map.of("projectId", projectId, "fromCode", fromCode, "toCode", toCode))));
+		assertThat(response.status()).isEqualTo(200);
+		return response.json().get(0).get("allowed").asBoolean();
+	}
+
+	private ApiClient.Response move(JsonNode status, String afterStatusId) {
+		Map<String, Object> body = new HashMap<>();
+		body.put("afterStatusId", afterStatusId);
+		body.put("version", status.get("version").asLong());
+		return api.post(statuses + "/" + status.get("id").asText() + "/move", body);
+	}
+
+	private List<JsonNode> list() {
+		ApiClient.Response response = api.get(statuses);
+		assertThat(response.status()).isEqualTo(200);
+		List<JsonNode> result = new ArrayList<>();
+		response.json().forEach(result::add);
+		return result;
+	}
+
+	private List<String> codes() {
+		return list().stream().map(status -> status.get("code").asText()).toList();
+	}
+}
@@ -0,0 +1,265 @@
+package com.taskflow.project_service.perf;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.taskflow.project_service.perf.StatementCounter.Usage;
+import com.taskflow.project_service.support.ApiClient;
+import com.taskflow.project_service.support.TestDatabase;
+import com.taskflow.project_service.support.UmsStub;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Per-request SQL statement and UMS call budgets of the project and member endpoints.
+ * A budget is a ceiling that must not depend on the size of the result: a change that
+ * brings back a per-row query (an N+1) fails the build here.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+		properties = {"eureka.client.enabled=false", "spring.jpa.show-sql=false",
+				// The search index and the project cache tail the change feed in the background; keep them out of the counts
+				"projects.search.refresh-interval=1h", "projects.cache.invalidate-interval=1h"})
+@Import(StatementCounter.Config.class)
+class EndpointBudgetTest {
+
+	private static final int MEMBERS = 30;
+
+	private static final UmsStub ums = UmsStub.start();
+
+	@LocalServerPort
+	private int port;
+
+	private ApiClient api;
+	private UUID ownerId;
+	private UUID projectId;
+
+	@DynamicPropertySource
+	static void properties(DynamicPropertyRegistry registry) {
+		TestDatabase.register(registry);
+		registry.add("spring.cloud.openfeign.client.config.ums-service.url", ums::url);
+	}
+
+	@AfterAll
+	static void stopUms() {
+		ums.close();
+	}
+
+	@BeforeEach
+	void createProjectWithMembers() {
+		ownerId = UUID.randomUUID();
+		api = new ApiClient("http://localhost:" + port, ownerId);
+		projectId = api.createProject(ownerId);
+
+		List<Map<String, Object>> members = new ArrayList<>();
+		for (int i = 1; i < MEMBERS; i++) {
+			members.add(Map.of("userId", UUID.randomUUID(), "role", "MEMBER"));
+		}
+		assertThat(api.post("/api/projects/" + projectId + "/members/bulk", Map.of("members", members)).status()).isEqualTo(200);
+	}
+
+	@Test
+	void createProject() {
+		assertBudget(() -> api.post("/api/projects", Map.of("name", "Budget", "projectKey", "B" + (System.nanoTime() % 100_000_000),
+				"type", "SCRUM", "ownerId", UUID.randomUUID())), 4, 0);
+	}
+
+	@Test
+	void getProjectById() {
+		// Cached in the second-level cache when it was created
+		assertBudget(() -> api.get("/api/projects/" + projectId), 0, 0);
+	}
+
+	@Test
+	void getProjectByIdStaysCachedAcrossMembershipChanges() {
+		// Bumping member_version must not evict the project from the second-level cache
+		assertThat(api.post("/api/projects/" + projectId + "/members",
+				Map.of("userId", UUID.randomUUID(), "role", "MEMBER")).status()).isEqualTo(200);
+		assertBudget(() -> api.get("/api/projects/" + projectId), 0, 0);
+	}
+
+	@Test
+	void getProjectByIdNotModified() {
+		String etag = api.get("/api/projects/" + projectId).header("ETag");
+		assertNotModified(() -> api.getIfNoneMatch("/api/projects/" + projectId, etag), 1);
+	}
+
+	@Test
+	void getProjectsPage() {
+		assertBudget(() -> api.get("/api/projects?limit=50"), 1, 0);
+	}
+
+	@Test
+	void getMembersWithoutUms() {
+		// member_version for the ETag, then the members with their profile snapshots
+		assertBudget(() -> api.get("/api/projects/" + projectId + "/members"), 2, 0);
+	}
+
+	@Test
+	void getMembersNotModified() {
+		String etag = api.get("/api/projects/" + projectId + "/members").header("ETag");
+		assertNotModified(() -> api.getIfNoneMatch("/api/projects/" + projectId + "/members", etag), 1);
+
+		// A membership change moves the tag
+		assertThat(api.post("/api/projects/" + projectId + "/members",
+				Map.of("userId", UUID.randomUUID(), "role", "MEMBER")).status()).isEqualTo(200);
+		assertThat(api.getIfNoneMatch("/api/projects/" + projectId + "/members", etag).status()).isEqualTo(200);
+	}
+
+	@Test
+	void getMyProjects() {
+		assertBudget(() -> api.get("/api/projects/mine?limit=50"), 1, 1);
+	}
+
+	@Test
+	void getStatuses() {
+		// Version check and rows on first read, then served from the cache
+		assertBudget(() -> api.get("/api/projects/" + projectId + "/statuses"), 2, 0);
+		assertBudget(() -> api.get("/api/projects/" + projectId + "/statuses"), 0, 0);
+
+		String etag = api.get("/api/projects/" + projectId + "/statuses").header("ETag");
+		assertNotModified(() -> api.getIfNoneMatch("/api/projects/" + projectId + "/statuses", etag), 0);
+	}
+
+	@Test
+	void addMembersInBulk() {
+		List<Map<String, Object>> members = new ArrayList<>();
+		for (int i = 0; i < 50; i++) {
+			members.add(Map.of("userId", UUID.randomUUID(), "role", "MEMBER"));
+			members.add(Map.of("email", "bulk" + i + "-" + UUID.randomUUID() + "@example.com", "role", "VIEWER"));
+		}
+		assertBudget(() -> api.post("/api/projects/" + projectId + "/members/bulk", Map.of("members", members)), 5, 1);
+	}
+
+	@Test
+	void changeRolesAndRemoveMembersInBulk() {
+		List<Map<String, Object>> members = new ArrayList<>();
+		List<UUID> userIds = new ArrayList<>();
+		for (int i = 0; i < 200; i++) {
+			UUID userId = UUID.randomUUID();
+			userIds.add(userId);
+			members.add(Map.of("userId", userId, "role", "MEMBER"));
+		}
+		api.post("/api/projects/" + projectId + "/members/bulk", Map.of("members", members));
+
+		// Lock, update, one batch of change events - independent of the number of members
+		JsonNode changed = assertBudget(() -> api.patch("/api/projects/" + projectId + "/members/roles",
+				Map.of("userIds", userIds, "role", "VIEWER")), 3, 0).json();
+		assertThat(changed.get("affected").asInt()).isEqualTo(200);
+
+		JsonNode removed = assertBudget(() -> api.delete("/api/projects/" + projectId + "/members/bulk",
+				Map.of("userIds", userIds)), 3, 0).json();
+		assertThat(removed.get("affected").asInt()).isEqualTo(200);
+	}
+
+	@Test
+	void addMemberByEmail() {
+		assertBudget(() -> api.post("/api/projects/" + projectId + "/members/by-email",
+				Map.of("email", "new-" + UUID.randomUUID() + "@example.com", "role", "MEMBER")), 6, 2);
+	}
+
+	@Test
+	void accessCheckOverManyProjects() {
+		List<UUID> projectIds = new ArrayList<>();
+		for (int i = 0; i < 10; i++) {
+			projectIds.add(api.createProject(ownerId));
+		}
+		assertBudget(() -> api.post("/api/projects/access-check", Map.of("userId", ownerId, "projectIds", projectIds)), 2, 0);
+	}
+
+	@Test
+	void getProjectsBatch() {
+		List<UUID> projectIds = new ArrayList<>(List.of(projectId));
+		for (int i = 0; i < 10; i++) {
+			projectIds.add(api.createProject(ownerId));
+		}
+		UUID unknown = UUID.randomUUID();
+		projectIds.add(unknown);
+
+		JsonNode batch = assertBudget(() -> api.post("/api/projects/batch", Map.of("ids", projectIds)), 2, 0).json();
+
+		assertThat(batch.get("projects")).hasSize(11);
+		assertThat(batch.get("projects").get(0).get("project").get("id").asText()).isEqualTo(projectId.toString());
+		assertThat(batch.get("projects").get(0).get("statuses")).extracting(status -> status.get("code").asText())
+				.containsExactly("TODO", "IN_PROGRESS", "DONE");
+		assertThat(batch.get("notFound")).extracting(JsonNode::asText).containsExactly(unknown.toString());
+		assertThat(api.post("/api/projects/batch", Map.of("ids", List.of())).status()).isEqualTo(400);
+	}
+
+	@Test
+	void searchProjects() {
+		// A prefix shared by every project of every perf run, of which the caller owns one
+		api.get("/api/projects/search?q=perf");
+		assertBudget(() -> api.get("/api/projects/search?q=perf"), 1, 1);
+	}
+
+	@Test
+	void checkProjectKeyAvailability() {
+		String projectKey = api.get("/api/projects/" + projectId).json().get("projectKey").asText();
+		// Taken, so the suggestions are looked up too
+		JsonNode availability = assertBudget(() -> api.get("/api/projects/keys/" + projectKey + "/available"), 0, 0).json();
+
+		assertThat(availability.get("available").asBoolean()).isFalse();
+		assertThat(availability.get("suggestions")).isNotEmpty();
+	}
+
+	@Test
+	void deleteProject() {
+		UUID doomed = api.createProject(ownerId);
+		api.post("/api/projects/" + doomed + "/members/bulk", Map.of("members",
+				List.of(Map.of("userId", UUID.randomUUID(), "role", "MEMBER"))));
+		// Fresh read, the soft-delete UPDATE and its change event; members and statuses are left to the purger
+		assertBudget(() -> api.delete("/api/projects/" + doomed), 3, 0);
+	}
+
+	@Test
+	void moveStatus() {
+		JsonNode statuses = api.get("/api/projects/" + projectId + "/statuses").json();
+		JsonNode last = statuses.get(statuses.size() - 1);
+		// status_version bump, the ordered statuses, the UPDATE of the moved row and its change event
+		JsonNode moved = assertBudget(() -> api.post("/api/projects/" + projectId + "/statuses/" + last.get("id").asText() + "/move",
+				Map.of("version", last.get("version").asLong())), 4, 0).json();
+		assertThat(moved.get("position").asInt()).isLessThan(statuses.get(0).get("position").asInt());
+	}
+
+	@Test
+	void getChanges() {
+		// The project, its statuses and all its members, from the start of the feed
+		assertBudget(() -> api.get("/api/changes?projectId=" + projectId + "&limit=1000"), 2, 0);
+	}
+
+	// 304 with no body and no UMS call, within maxStatements
+	private static void assertNotModified(Supplier<ApiClient.Response> request, long maxStatements) {
+		AtomicReference<ApiClient.Response> response = new AtomicReference<>();
+		Usage usage = StatementCounter.measure(() -> response.set(request.get()));
+
+		System.out.println("Budget check (304): " + usage);
+		assertThat(response.get().status()).as("HTTP status").isEqualTo(304);
+		assertThat(response.get().body()).isEmpty();
+		assertThat(usage.statements()).as("SQL statements, budget %d; %s", maxStatements, usage).isLessThanOrEqualTo(maxStatements);
+		assertThat(usage.feignCalls()).as("UMS calls; %s", usage).isZero();
+	}
+
+	private static ApiClient.Response assertBudget(Supplier<ApiClient.Response> request, long maxStatements, long maxUmsCalls) {
+		AtomicReference<ApiClient.Response> response = new AtomicReference<>();
+		Usage usage = StatementCounter.measure(() -> response.set(request.get()));
+
+		System.out.println("Budget check: " + usage);
+		assertThat(response.get().status()).as("HTTP status").isBetween(200, 299);
+		assertThat(usage.statements()).as("SQL statements, budget %d; %s", maxStatements, usage).isLessThanOrEqualTo(maxStatements);
+		assertThat(usage.feignCalls()).as("UMS calls, budget %d; %s", maxUmsCalls, usage).isLessThanOrEqualTo(maxUmsCalls);
+		return response.get();
+	}
+}
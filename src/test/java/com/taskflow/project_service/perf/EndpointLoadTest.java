@@ -0,0 +1,231 @@
+package com.taskflow.project_service.perf;
+
+import com.taskflow.project_service.support.ApiClient;
+import com.taskflow.project_service.support.TestDatabase;
+import com.taskflow.project_service.support.UmsStub;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Drives the read endpoints at fixed concurrency against the UMS stand-in and reports throughput,
+ * latency percentiles, and SQL statements and UMS calls per request. The user cache is disabled,
+ * so every request that needs a profile pays the configured UMS latency (and failure rate).
+ * Run with mvn test -Pload-test.
+ */
+@Tag("load")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+		properties = {"eureka.client.enabled=false", "spring.jpa.show-sql=false", "ums.user-cache.maximum-size=0"})
+@Import(StatementCounter.Config.class)
+class EndpointLoadTest {
+
+	private static final int CONCURRENCY = 16;
+	private static final int PROJECTS = 20;
+	private static final int MEMBERS_PER_PROJECT = 30;
+	private static final Duration WARM_UP = Duration.ofSeconds(2);
+	// Per endpoint, once before the first scenario, so that scenario does not pay for JIT compilation
+	private static final Duration JIT_WARM_UP = Duration.ofSeconds(15);
+	private static final Duration MEASURE = Duration.ofSeconds(10);
+
+	private static final UmsStub ums = UmsStub.start();
+	private static final UUID callerId = UUID.randomUUID();
+	private static final List<UUID> projectIds = new ArrayList<>();
+
+	@LocalServerPort
+	private int port;
+
+	@DynamicPropertySource
+	static void properties(DynamicPropertyRegistry registry) {
+		TestDatabase.register(registry);
+		registry.add("spring.cloud.openfeign.client.config.ums-service.url", ums::url);
+	}
+
+	@BeforeAll
+	static void seed(@Value("${local.server.port}") int port) {
+		ApiClient api = new ApiClient("http://localhost:" + port, callerId);
+		for (int p = 0; p < PROJECTS; p++) {
+			UUID projectId = api.createProject(callerId);
+			List<Map<String, Object>> members = new ArrayList<>();
+			for (int i = 1; i < MEMBERS_PER_PROJECT; i++) {
+				members.add(Map.of("userId", UUID.randomUUID(), "role", "MEMBER"));
+			}
+			api.post("/api/projects/" + projectId + "/members/bulk", Map.of("members", members));
+			projectIds.add(projectId);
+		}
+
+		for (Function<UUID, String> path : endpoints().values()) {
+			long until = System.nanoTime() + JIT_WARM_UP.toNanos();
+			try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+				for (int c = 0; c < CONCURRENCY; c++) {
+					executor.submit(() -> {
+						while (System.nanoTime() < until) {
+							api.get(path.apply(projectIds.get(ThreadLocalRandom.current().nextInt(projectIds.size()))));
+						}
+					});
+				}
+			}
+		}
+	}
+
+	@AfterAll
+	static void stopUms() {
+		ums.close();
+	}
+
+	@ParameterizedTest(name = "UMS latency {0} ms, failure rate {1}")
+	@CsvSource({"20, 0.0", "20, 0.05", "200, 0.0"})
+	void readEndpoints(long umsLatencyMillis, double umsFailureRate) throws Exception {
+		ums.latency(Duration.ofMillis(umsLatencyMillis)).failureRate(umsFailureRate);
+
+		System.out.printf("%nUMS latency %d ms, failure rate %.2f, %d clients%n", umsLatencyMillis, umsFailureRate, CONCURRENCY);
+		System.out.printf("%-32s %9s %8s %8s %8s %7s %8s %8s%n", "endpoint", "req/s", "p50 ms", "p95 ms", "p99 ms", "errors", "SQL/req", "UMS/req");
+		for (Map.Entry<String, Function<UUID, String>> endpoint : endpoints().entrySet()) {
+			Result result = drive(endpoint.getValue());
+			System.out.printf("%-32s %9.1f %8.1f %8.1f %8.1f %7d %8.2f %8.2f%n", endpoint.getKey(), result.throughput(),
+					result.percentile(50), result.percentile(95), result.percentile(99), result.errors(),
+					result.statementsPerRequest(), result.umsCallsPerRequest());
+
+			assertThat(result.serverErrors()).as("5xx responses from %s", endpoint.getKey()).isZero();
+			if (umsFailureRate == 0) {
+				assertThat(result.errors()).as("failed requests to %s", endpoint.getKey()).isZero();
+			}
+		}
+	}
+
+	private static Map<String, Function<UUID, String>> endpoints() {
+		Map<String, Function<UUID, String>> endpoints = new LinkedHashMap<>();
+		endpoints.put("GET /api/projects/{id}", id -> "/api/projects/" + id);
+		endpoints.put("GET /api/projects?limit=50", id -> "/api/projects?limit=50");
+		endpoints.put("GET /api/projects/mine", id -> "/api/projects/mine");
+		endpoints.put("GET /api/projects/{id}/members", id -> "/api/projects/" + id + "/members");
+		endpoints.put("GET /api/projects/{id}/statuses", id -> "/api/projects/" + id + "/statuses");
+		return endpoints;
+	}
+
+	private Result drive(Function<UUID, String> path) throws Exception {
+		ApiClient api = new ApiClient("http://localhost:" + port, callerId);
+		long measureFrom = System.nanoTime() + WARM_UP.toNanos();
+		long measureUntil = measureFrom + MEASURE.toNanos();
+		long[] statementsAtStart = new long[1];
+		long[] umsCallsAtStart = new long[1];
+
+		List<Future<ClientStats>> clients = new ArrayList<>();
+		try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+			executor.submit(() -> {
+				Thread.sleep(WARM_UP);
+				statementsAtStart[0] = StatementCounter.statements();
+				umsCallsAtStart[0] = StatementCounter.feignCalls();
+				return null;
+			});
+			for (int c = 0; c < CONCURRENCY; c++) {
+				clients.add(executor.submit(() -> {
+					ClientStats stats = new ClientStats();
+					while (System.nanoTime() < measureUntil) {
+						UUID projectId = projectIds.get(ThreadLocalRandom.current().nextInt(projectIds.size()));
+						long start = System.nanoTime();
+						int status = api.get(path.apply(projectId)).status();
+						long end = System.nanoTime();
+						if (start >= measureFrom && end < measureUntil) {
+							stats.record(end - start, status);
+						}
+					}
+					return stats;
+				}));
+			}
+		}
+		long statements = StatementCounter.statements() - statementsAtStart[0];
+		long umsCalls = StatementCounter.feignCalls() - umsCallsAtStart[0];
+
+		ClientStats total = new ClientStats();
+		for (Future<ClientStats> client : clients) {
+			total.add(client.get());
+		}
+		return new Result(total, statements, umsCalls);
+	}
+
+	private static final class ClientStats {
+
+		private long[] latencies = new long[1024];
+		private int count;
+		private int errors;
+		private int serverErrors;
+
+		void record(long latencyNanos, int status) {
+			if (count == latencies.length) {
+				latencies = Arrays.copyOf(latencies, count * 2);
+			}
+			latencies[count++] = latencyNanos;
+			if (status >= 400) {
+				errors++;
+			}
+			if (status >= 500) {
+				serverErrors++;
+			}
+		}
+
+		void add(ClientStats other) {
+			for (int i = 0; i < other.count; i++) {
+				record(other.latencies[i], 200);
+			}
+			errors += other.errors;
+			serverErrors += other.serverErrors;
+		}
+	}
+
+	private record Result(ClientStats stats, long statements, long umsCalls) {
+
+		// Statements and UMS calls include those of requests still in flight at either end of the window
+		double throughput() {
+			return stats.count / (double) MEASURE.toSeconds();
+		}
+
+		double percentile(int percentile) {
+			if (stats.count == 0) {
+				return 0;
+			}
+			long[] sorted = Arrays.copyOf(stats.latencies, stats.count);
+			Arrays.sort(sorted);
+			int index = (int) Math.ceil(percentile / 100.0 * sorted.length) - 1;
+			return sorted[Math.max(index, 0)] / 1_000_000.0;
+		}
+
+		int errors() {
+			return stats.errors;
+		}
+
+		int serverErrors() {
+			return stats.serverErrors;
+		}
+
+		double statementsPerRequest() {
+			return stats.count == 0 ? 0 : statements / (double) stats.count;
+		}
+
+		double umsCallsPerRequest() {
+			return stats.count == 0 ? 0 : umsCalls / (double) stats.count;
+		}
+	}
+}
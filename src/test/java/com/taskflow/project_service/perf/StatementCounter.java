@@ -0,0 +1,136 @@
+package com.taskflow.project_service.perf;
+
+import feign.RequestInterceptor;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Counts SQL statements executed through the application DataSource (a JDBC batch counts once)
+ * and outbound Feign calls, for all threads. Import {@link Config} into a test context to install it.
+ */
+final class StatementCounter {
+
+	private static final AtomicLong STATEMENTS = new AtomicLong();
+	private static final AtomicLong FEIGN_CALLS = new AtomicLong();
+	private static final List<String> RECENT_SQL = Collections.synchronizedList(new ArrayList<>());
+	private static volatile boolean recordingSql;
+
+	private StatementCounter() {
+	}
+
+	// Statements and Feign calls made while action runs; meant for one request at a time
+	static Usage measure(Runnable action) {
+		RECENT_SQL.clear();
+		long statements = STATEMENTS.get();
+		long feignCalls = FEIGN_CALLS.get();
+		recordingSql = true;
+		try {
+			action.run();
+		} finally {
+			recordingSql = false;
+		}
+		List<String> sql;
+		synchronized (RECENT_SQL) {
+			sql = List.copyOf(RECENT_SQL);
+		}
+		return new Usage(STATEMENTS.get() - statements, FEIGN_CALLS.get() - feignCalls, sql);
+	}
+
+	static long statements() {
+		return STATEMENTS.get();
+	}
+
+	static long feignCalls() {
+		return FEIGN_CALLS.get();
+	}
+
+	record Usage(long statements, long feignCalls, List<String> sql) {
+
+		@Override
+		public String toString() {
+			return statements + " statements, " + feignCalls + " UMS calls" + (sql.isEmpty() ? "" : ":\n  " + String.join("\n  ", sql));
+		}
+	}
+
+	@TestConfiguration(proxyBeanMethods = false)
+	static class Config {
+
+		@Bean
+		static BeanPostProcessor statementCountingDataSourcePostProcessor() {
+			return new BeanPostProcessor() {
+				@Override
+				public Object postProcessAfterInitialization(Object bean, String beanName) {
+					return bean instanceof DataSource dataSource ? new CountingDataSource(dataSource) : bean;
+				}
+			};
+		}
+
+		@Bean
+		RequestInterceptor feignCallCounter() {
+			return template -> FEIGN_CALLS.incrementAndGet();
+		}
+	}
+
+	private static final class CountingDataSource extends DelegatingDataSource {
+
+		private CountingDataSource(DataSource target) {
+			super(target);
+		}
+
+		@Override
+		public Connection getConnection() throws SQLException {
+			return proxy(Connection.class, super.getConnection(), null);
+		}
+
+		@Override
+		public Connection getConnection(String username, String password) throws SQLException {
+			return proxy(Connection.class, super.getConnection(username, password), null);
+		}
+	}
+
+	// Wraps connections and the statements they create; sql is known for prepared statements
+	@SuppressWarnings("unchecked")
+	private static <T> T proxy(Class<T> type, T target, String sql) {
+		return (T) Proxy.newProxyInstance(StatementCounter.class.getClassLoader(), new Class<?>[] {type}, (proxy, method, args) -> {
+			Object result = invoke(method, target, args);
+			String name = method.getName();
+			if (result instanceof Statement && (name.startsWith("prepare") || name.equals("createStatement"))) {
+				String statementSql = args != null && args.length > 0 && args[0] instanceof String s ? s : null;
+				Class<?> statementType = result instanceof CallableStatement ? CallableStatement.class
+						: result instanceof PreparedStatement ? PreparedStatement.class : Statement.class;
+				return proxy((Class<Object>) statementType, result, statementSql);
+			}
+			if (target instanceof Statement && name.startsWith("execute")) {
+				STATEMENTS.incrementAndGet();
+				if (recordingSql) {
+					RECENT_SQL.add(args != null && args.length > 0 && args[0] instanceof String s ? s : String.valueOf(sql));
+				}
+			}
+			return result;
+		});
+	}
+
+	private static Object invoke(Method method, Object target, Object[] args) throws Throwable {
+		try {
+			return method.invoke(target, args);
+		} catch (InvocationTargetException e) {
+			throw e.getCause();
+		}
+	}
+}
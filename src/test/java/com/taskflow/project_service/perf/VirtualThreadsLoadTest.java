@@ -0,0 +1,107 @@
+package com.taskflow.project_service.perf;
+
+import com.taskflow.project_service.ProjectServiceApplication;
+import com.taskflow.project_service.support.ApiClient;
+import com.taskflow.project_service.support.TestDatabase;
+import com.taskflow.project_service.support.UmsStub;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Compares the throughput of GET /api/projects/{id}/members with platform and with virtual
+ * request threads. UMS is replaced by a local stub that answers after a fixed delay and the user
+ * cache is disabled, so every request blocks on one UMS call; both runs share the JVM, and so
+ * the heap and core count pinned by the load-test profile ({@code mvn test -Pload-test}).
+ */
+@Tag("load")
+class VirtualThreadsLoadTest {
+
+	private static final Duration UMS_LATENCY = Duration.ofMillis(100);
+	private static final int CLIENTS = 400;
+	private static final Duration WARM_UP = Duration.ofSeconds(3);
+	private static final Duration MEASURE = Duration.ofSeconds(10);
+
+	private static final UmsStub ums = UmsStub.start().latency(UMS_LATENCY);
+
+	@AfterAll
+	static void stopUms() {
+		ums.close();
+	}
+
+	@Test
+	void virtualThreadsSustainMoreBlockedRequestsThanThePlatformPool() throws Exception {
+		double platform = measure(false);
+		double virtual = measure(true);
+
+		System.out.printf("GET /members with %d clients, UMS latency %d ms: platform %.0f req/s, virtual %.0f req/s (%.2fx)%n",
+				CLIENTS, UMS_LATENCY.toMillis(), platform, virtual, virtual / platform);
+		assertThat(platform).isPositive();
+		assertThat(virtual).isPositive();
+	}
+
+	private double measure(boolean virtualThreads) throws Exception {
+		// Command-line arguments, so they take precedence over application.properties
+		List<String> arguments = new ArrayList<>(List.of(
+				"--server.port=0",
+				"--spring.threads.virtual.enabled=" + virtualThreads,
+				"--eureka.client.enabled=false",
+				"--spring.jpa.show-sql=false",
+				"--ums.user-cache.maximum-size=0",
+				"--ums.resilience.bulkhead.max-concurrent-calls=" + CLIENTS,
+				"--spring.cloud.openfeign.client.config.ums-service.url=" + ums.url()));
+		arguments.addAll(List.of(TestDatabase.arguments()));
+
+		try (ConfigurableApplicationContext app = new SpringApplicationBuilder(ProjectServiceApplication.class)
+				.run(arguments.toArray(String[]::new))) {
+			UUID callerId = UUID.randomUUID();
+			ApiClient api = new ApiClient("http://localhost:" + app.getEnvironment().getProperty("local.server.port"), callerId);
+			String members = "/api/projects/" + api.createProject(callerId) + "/members";
+
+			// The request path still prints to stdout; writing that through the test runner would
+			// be the bottleneck being measured
+			PrintStream stdout = System.out;
+			System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+
+			AtomicLong completed = new AtomicLong();
+			AtomicLong failed = new AtomicLong();
+			long measureFrom = System.nanoTime() + WARM_UP.toNanos();
+			long measureUntil = measureFrom + MEASURE.toNanos();
+			try (ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor()) {
+				Stream.generate(() -> (Runnable) () -> {
+					while (System.nanoTime() < measureUntil) {
+						int status;
+						try {
+							status = api.get(members).status();
+						} catch (RuntimeException e) {
+							status = -1;
+						}
+						long finishedAt = System.nanoTime();
+						if (finishedAt >= measureFrom && finishedAt < measureUntil) {
+							(status == 200 ? completed : failed).incrementAndGet();
+						}
+					}
+				}).limit(CLIENTS).forEach(clients::submit);
+			} finally {
+				System.setOut(stdout);
+			}
+			assertThat(failed.get()).as("failed requests").isZero();
+			return completed.get() / (double) MEASURE.toSeconds();
+		}
+	}
+}
@@ -0,0 +1,49 @@
+package com.taskflow.project_service.service;
+
+import com.taskflow.project_service.dto.WorkFlowStatusResponseDTO;
+import com.taskflow.project_service.enums.TransitionCheckOutcome;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class CompiledWorkflowTest {
+
+	private final WorkFlowStatusResponseDTO todo = status("TODO", true);
+	private final WorkFlowStatusResponseDTO inProgress = status("IN_PROGRESS", true);
+	private final WorkFlowStatusResponseDTO done = status("DONE", true);
+	private final WorkFlowStatusResponseDTO archived = status("ARCHIVED", false);
+
+	@Test
+	void allowsAnyActiveMoveWithoutExplicitTransitions() {
+		CompiledWorkflow workflow = CompiledWorkflow.compile(List.of(todo, inProgress, done, archived), List.of());
+
+		assertEquals(TransitionCheckOutcome.ALLOWED, workflow.check("TODO", "DONE"));
+		assertEquals(TransitionCheckOutcome.ALLOWED, workflow.check("DONE", "TODO"));
+		assertEquals(TransitionCheckOutcome.INACTIVE_STATUS, workflow.check("TODO", "ARCHIVED"));
+		assertEquals(TransitionCheckOutcome.UNKNOWN_STATUS, workflow.check("TODO", "MISSING"));
+	}
+
+	@Test
+	void allowsOnlyListedPairsWithExplicitTransitions() {
+		CompiledWorkflow workflow = CompiledWorkflow.compile(List.of(todo, inProgress, done), List.of(
+				new UUID[]{todo.getId(), inProgress.getId()},
+				new UUID[]{inProgress.getId(), done.getId()}));
+
+		assertEquals(TransitionCheckOutcome.ALLOWED, workflow.check("TODO", "IN_PROGRESS"));
+		assertEquals(TransitionCheckOutcome.ALLOWED, workflow.check("IN_PROGRESS", "DONE"));
+		assertEquals(TransitionCheckOutcome.NOT_ALLOWED, workflow.check("TODO", "DONE"));
+		assertEquals(TransitionCheckOutcome.NOT_ALLOWED, workflow.check("DONE", "IN_PROGRESS"));
+		assertEquals(TransitionCheckOutcome.ALLOWED, workflow.check("DONE", "DONE"));
+	}
+
+	private static WorkFlowStatusResponseDTO status(String code, boolean active) {
+		return WorkFlowStatusResponseDTO.builder()
+				.id(UUID.randomUUID())
+				.code(code)
+				.isActive(active)
+				.build();
+	}
+}
@@ -0,0 +1,88 @@
+package com.taskflow.project_service.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.taskflow.project_service.service.MemberProfileReconciler;
+import com.taskflow.project_service.support.ApiClient;
+import com.taskflow.project_service.support.IntegrationTest;
+import com.taskflow.project_service.support.UmsStub;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Member names and emails come from the snapshot on project_member: stored when the profile is
+ * at hand, filled in and refreshed by {@link MemberProfileReconciler}, and served without UMS.
+ */
+class MemberProfileSnapshotTest extends IntegrationTest {
+
+	@Autowired
+	private MemberProfileReconciler reconciler;
+
+	@AfterEach
+	void restoreUms() {
+		ums.failureRate(0);
+	}
+
+	@Test
+	void reconcilerFillsInMembersAddedById() {
+		UUID ownerId = UUID.randomUUID();
+		ApiClient api = client(ownerId);
+		UUID projectId = api.createProject(ownerId);
+		UUID userId = UUID.randomUUID();
+		assertThat(api.post("/api/projects/" + projectId + "/members/bulk",
+				Map.of("members", List.of(Map.of("userId", userId, "role", "MEMBER")))).status()).isEqualTo(200);
+
+		ApiClient.Response before = api.get("/api/projects/" + projectId + "/members");
+		assertThat(member(before.json(), userId).get("name").isNull()).isTrue();
+
+		reconcileEverything();
+
+		ApiClient.Response after = api.get("/api/projects/" + projectId + "/members");
+		assertThat(member(after.json(), userId).get("name").asText()).isEqualTo("User " + userId.toString().substring(0, 8));
+		assertThat(member(after.json(), userId).get("email").asText()).isEqualTo(UmsStub.emailOf(userId));
+		assertThat(member(after.json(), ownerId).get("email").asText()).isEqualTo(UmsStub.emailOf(ownerId));
+		// New names are a new member list
+		assertThat(after.header("ETag")).isNotEqualTo(before.header("ETag"));
+	}
+
+	@Test
+	void membersAreListedWhileUmsIsDown() {
+		UUID ownerId = UUID.randomUUID();
+		ApiClient api = client(ownerId);
+		UUID projectId = api.createProject(ownerId);
+		UUID userId = UUID.randomUUID();
+		assertThat(api.post("/api/projects/" + projectId + "/members",
+				Map.of("userId", userId, "role", "MEMBER")).status()).isEqualTo(200);
+
+		ums.failureRate(1);
+		long umsCalls = ums.calls();
+		ApiClient.Response members = api.get("/api/projects/" + projectId + "/members");
+
+		assertThat(members.status()).isEqualTo(200);
+		assertThat(member(members.json(), userId).get("email").asText()).isEqualTo(UmsStub.emailOf(userId));
+		assertThat(ums.calls()).isEqualTo(umsCalls);
+	}
+
+	// Other suites may have left never-synced members in a shared database; run until none is stale
+	private void reconcileEverything() {
+		int checked;
+		do {
+			checked = reconciler.reconcile();
+		} while (checked > 0);
+	}
+
+	private static JsonNode member(JsonNode members, UUID userId) {
+		for (JsonNode member : members) {
+			if (member.get("userId").asText().equals(userId.toString())) {
+				return member;
+			}
+		}
+		throw new AssertionError("No member " + userId + " in " + members);
+	}
+}
@@ -0,0 +1,87 @@
+package com.taskflow.project_service.service;
+
+import com.taskflow.project_service.enums.ChangeEntityType;
+import com.taskflow.project_service.support.ApiClient;
+import com.taskflow.project_service.support.IntegrationTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Projects in the second-level cache follow writes made by other instances, which this suite
+ * stands in for by writing the row and its change event directly.
+ */
+class ProjectCacheInvalidationTest extends IntegrationTest {
+
+	@Autowired
+	private ProjectCacheInvalidator invalidator;
+
+	@Autowired
+	private ChangeLog changeLog;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Autowired
+	private TransactionTemplate transactionTemplate;
+
+	private ApiClient api;
+	private UUID ownerId;
+	private UUID projectId;
+
+	@BeforeEach
+	void createProject() {
+		ownerId = UUID.randomUUID();
+		api = client(ownerId);
+		projectId = api.createProject(ownerId);
+		assertThat(api.get("/api/projects/" + projectId).status()).isEqualTo(200);
+	}
+
+	@Test
+	void renameOnAnotherInstanceEvictsTheProject() {
+		transactionTemplate.executeWithoutResult(status -> {
+			jdbcTemplate.update("UPDATE projects SET name = 'Renamed elsewhere', version = version + 1 WHERE project_id = ?", projectId);
+			changeLog.record(ChangeLog.Change.upsert(ChangeEntityType.PROJECT, projectId, projectId, Map.of("name", "Renamed elsewhere")));
+		});
+
+		invalidator.invalidate();
+
+		assertThat(api.get("/api/projects/" + projectId).json().get("name").asText()).isEqualTo("Renamed elsewhere");
+	}
+
+	@Test
+	void deleteOnAnotherInstanceEvictsTheProject() {
+		transactionTemplate.executeWithoutResult(status -> {
+			jdbcTemplate.update("UPDATE projects SET deleted_at = now() WHERE project_id = ?", projectId);
+			changeLog.record(ChangeLog.Change.delete(ChangeEntityType.PROJECT, projectId, projectId));
+		});
+
+		// Writes do not trust the cached copy, even before it is evicted
+		assertThat(api.post("/api/projects/" + projectId + "/members",
+				Map.of("userId", UUID.randomUUID(), "role", "MEMBER")).status()).isEqualTo(400);
+
+		invalidator.invalidate();
+
+		assertThat(api.get("/api/projects/" + projectId).status()).isEqualTo(404);
+	}
+
+	@Test
+	void writesLoadTheProjectFromTheDatabase() {
+		// Changed elsewhere and not yet evicted: the cached copy carries an old version
+		jdbcTemplate.update("UPDATE projects SET version = version + 1 WHERE project_id = ?", projectId);
+
+		ApiClient.Response updated = api.put("/api/projects/" + projectId, Map.of("name", "Updated here",
+				"projectKey", api.get("/api/projects/" + projectId).json().get("projectKey").asText(),
+				"type", "SCRUM", "ownerId", ownerId));
+
+		assertThat(updated.status()).isEqualTo(200);
+		assertThat(api.get("/api/projects/" + projectId).json().get("name").asText()).isEqualTo("Updated here");
+	}
+}
@@ -0,0 +1,150 @@
+package com.taskflow.project_service.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SingleFlightTest {
+
+	private static final int CALLERS = 50;
+
+	private final Counter coalesced = Counter.builder("coalesced").register(new SimpleMeterRegistry());
+	private final SingleFlight<String, String> flight = new SingleFlight<>(coalesced);
+	private final CountDownLatch release = new CountDownLatch(1);
+
+	@Test
+	void concurrentGetsShareOneLoad() throws Exception {
+		AtomicInteger loads = new AtomicInteger();
+		List<CompletableFuture<String>> results = runConcurrently(() -> flight.get("user", key -> {
+			loads.incrementAndGet();
+			await(release);
+			return key + "-profile";
+		}));
+
+		awaitCoalesced(CALLERS - 1);
+		release.countDown();
+
+		for (CompletableFuture<String> result : results) {
+			assertEquals("user-profile", result.get(5, TimeUnit.SECONDS));
+		}
+		assertEquals(1, loads.get());
+	}
+
+	@Test
+	void bulkLoadsOnlyFetchKeysNobodyElseIsLoading() throws Exception {
+		List<Set<String>> requested = new ArrayList<>();
+		CompletableFuture<Map<String, String>> first = CompletableFuture.supplyAsync(() -> flight.getAll(List.of("a", "b"), keys -> {
+			synchronized (requested) {
+				requested.add(Set.copyOf(keys));
+			}
+			await(release);
+			return profiles(keys);
+		}));
+		while (requested.isEmpty()) {
+			Thread.sleep(5);
+		}
+
+		CompletableFuture<Map<String, String>> second = CompletableFuture.supplyAsync(() -> flight.getAll(List.of("b", "c"), keys -> {
+			synchronized (requested) {
+				requested.add(Set.copyOf(keys));
+			}
+			return profiles(keys);
+		}));
+		awaitCoalesced(1);
+		release.countDown();
+
+		assertEquals(Map.of("a", "a-profile", "b", "b-profile"), first.get(5, TimeUnit.SECONDS));
+		assertEquals(Map.of("b", "b-profile", "c", "c-profile"), second.get(5, TimeUnit.SECONDS));
+		assertEquals(List.of(Set.of("a", "b"), Set.of("c")), requested);
+	}
+
+	@Test
+	void sharesTheFailureAndLoadsAgainAfterwards() throws Exception {
+		IllegalStateException failure = new IllegalStateException("UMS unavailable");
+		List<CompletableFuture<String>> results = runConcurrently(() -> flight.get("user", key -> {
+			await(release);
+			throw failure;
+		}));
+
+		awaitCoalesced(CALLERS - 1);
+		release.countDown();
+
+		for (CompletableFuture<String> result : results) {
+			ExecutionException error = assertThrows(ExecutionException.class, () -> result.get(5, TimeUnit.SECONDS));
+			assertSame(failure, error.getCause());
+		}
+		assertEquals("fresh", flight.get("user", key -> "fresh"));
+	}
+
+	@Test
+	void sharesErrorsInsteadOfLeavingWaitersHanging() throws Exception {
+		AssertionError failure = new AssertionError("loader broke");
+		List<CompletableFuture<String>> results = runConcurrently(() -> flight.get("user", key -> {
+			await(release);
+			throw failure;
+		}));
+
+		awaitCoalesced(CALLERS - 1);
+		release.countDown();
+
+		for (CompletableFuture<String> result : results) {
+			ExecutionException error = assertThrows(ExecutionException.class, () -> result.get(5, TimeUnit.SECONDS));
+			assertSame(failure, error.getCause());
+		}
+		assertThrows(StackOverflowError.class, () -> flight.getAll(List.of("a"), keys -> {
+			throw new StackOverflowError();
+		}));
+		assertEquals(Map.of("a", "a-profile"), flight.getAll(List.of("a"), SingleFlightTest::profiles));
+	}
+
+	private List<CompletableFuture<String>> runConcurrently(Supplier<String> call) {
+		ExecutorService callers = Executors.newVirtualThreadPerTaskExecutor();
+		List<CompletableFuture<String>> results = new ArrayList<>();
+		for (int i = 0; i < CALLERS; i++) {
+			results.add(CompletableFuture.supplyAsync(call, callers));
+		}
+		callers.shutdown();
+		return results;
+	}
+
+	private void awaitCoalesced(int expected) throws InterruptedException {
+		long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+		while (coalesced.count() < expected && System.nanoTime() < deadline) {
+			Thread.sleep(5);
+		}
+		assertTrue(coalesced.count() >= expected, "coalesced " + coalesced.count());
+	}
+
+	private static Map<String, String> profiles(Set<String> keys) {
+		Map<String, String> profiles = new HashMap<>();
+		keys.forEach(key -> profiles.put(key, key + "-profile"));
+		return profiles;
+	}
+
+	private static void await(CountDownLatch latch) {
+		try {
+			latch.await(5, TimeUnit.SECONDS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+}
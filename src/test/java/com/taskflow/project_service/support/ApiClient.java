@@ -0,0 +1,123 @@
+package com.taskflow.project_service.support;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpHeaders;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.stream.Stream;
+
+/**
+ * Minimal HTTP client for the functional and perf suites; every request carries the gateway headers of one caller.
+ */
+public final class ApiClient {
+
+	private static final ObjectMapper JSON = new ObjectMapper();
+
+	private final HttpClient http = HttpClient.newBuilder().executor(Executors.newVirtualThreadPerTaskExecutor()).build();
+	private final String baseUrl;
+	private final UUID callerId;
+
+	public ApiClient(String baseUrl, UUID callerId) {
+		this.baseUrl = baseUrl;
+		this.callerId = callerId;
+	}
+
+	public Response get(String path) {
+		return send(request(path).GET());
+	}
+
+	public Response getIfNoneMatch(String path, String etag) {
+		return send(request(path).header("If-None-Match", etag).GET());
+	}
+
+	public Response post(String path, Object body) {
+		return send(request(path).POST(HttpRequest.BodyPublishers.ofString(toJson(body))));
+	}
+
+	public Response put(String path, Object body) {
+		return send(request(path).PUT(HttpRequest.BodyPublishers.ofString(toJson(body))));
+	}
+
+	public Response patch(String path, Object body) {
+		return send(request(path).method("PATCH", HttpRequest.BodyPublishers.ofString(toJson(body))));
+	}
+
+	public Response delete(String path) {
+		return send(request(path).DELETE());
+	}
+
+	public Response delete(String path, Object body) {
+		return send(request(path).method("DELETE", HttpRequest.BodyPublishers.ofString(toJson(body))));
+	}
+
+	// Returns once the response headers arrive; the body is read line by line as the server writes it
+	public HttpResponse<Stream<String>> stream(String path) {
+		try {
+			return http.send(request(path).header("Accept", "text/event-stream").GET().build(), HttpResponse.BodyHandlers.ofLines());
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException(e);
+		}
+	}
+
+	// Creates a project owned by ownerId and returns its id
+	public UUID createProject(UUID ownerId) {
+		String key = "P" + Long.toString(System.nanoTime() % 1_000_000_000L, 36).toUpperCase();
+		Response response = post("/api/projects", Map.of(
+				"name", "Perf " + key, "projectKey", key, "type", "SCRUM", "ownerId", ownerId));
+		return UUID.fromString(response.json().get("id").asText());
+	}
+
+	private HttpRequest.Builder request(String path) {
+		return HttpRequest.newBuilder(URI.create(baseUrl + path))
+				.header("X-User-Id", callerId.toString())
+				.header("X-User-Email", UmsStub.emailOf(callerId))
+				.header("Content-Type", "application/json");
+	}
+
+	private Response send(HttpRequest.Builder request) {
+		try {
+			HttpResponse<byte[]> response = http.send(request.build(), HttpResponse.BodyHandlers.ofByteArray());
+			return new Response(response.statusCode(), response.body(), response.headers());
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException(e);
+		}
+	}
+
+	private static String toJson(Object body) {
+		try {
+			return JSON.writeValueAsString(body);
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	public record Response(int status, byte[] body, HttpHeaders headers) {
+
+		public String header(String name) {
+			return headers.firstValue(name).orElse(null);
+		}
+
+		public JsonNode json() {
+			try {
+				return JSON.readTree(body);
+			} catch (IOException e) {
+				throw new UncheckedIOException(e);
+			}
+		}
+	}
+}
@@ -0,0 +1,52 @@
+package com.taskflow.project_service.support;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.util.UUID;
+
+/**
+ * Base of the functional suites: the application on a random port against {@link TestDatabase},
+ * with {@link UmsStub} standing in for ums-service.
+ * <p>
+ * Subclasses must not add properties, mocks or imports of their own: as long as they don't, they
+ * all share one application context (one server, one set of pools) for the whole run. Background
+ * jobs are parked, so suites run purges, refreshes and reconciliations themselves when they need
+ * them; the settings they rely on are collected here.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+		properties = {"eureka.client.enabled=false", "spring.jpa.show-sql=false",
+				"changes.retention=0s", "changes.purge-interval=1h", "changes.stream.poll-interval=50ms",
+				"members.profile-snapshot.sync-interval=1h",
+				"projects.purge.interval=1h", "projects.purge.batch-size=2", "projects.stream.fetch-size=3",
+				"projects.cache.invalidate-interval=1h",
+				"projects.search.refresh-interval=1h", "projects.search.max-candidates=20",
+				"workflow.status-order.renormalize-interval=1h", "workflow.status-order.min-gap=8"})
+public abstract class IntegrationTest {
+
+	protected static final UmsStub ums = sharedUms();
+
+	@LocalServerPort
+	protected int port;
+
+	@DynamicPropertySource
+	static void properties(DynamicPropertyRegistry registry) {
+		TestDatabase.register(registry);
+		registry.add("spring.cloud.openfeign.client.config.ums-service.url", ums::url);
+	}
+
+	/** A client whose requests carry the gateway headers of {@code callerId}. */
+	protected ApiClient client(UUID callerId) {
+		return new ApiClient("http://localhost:" + port, callerId);
+	}
+
+	// One stub for every suite, so they all register the same URL; stopped after the contexts close
+	private static UmsStub sharedUms() {
+		UmsStub stub = UmsStub.start();
+		SpringApplication.getShutdownHandlers().add(stub::close);
+		return stub;
+	}
+}
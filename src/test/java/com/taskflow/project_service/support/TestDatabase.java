@@ -0,0 +1,64 @@
+package com.taskflow.project_service.support;
+
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.springframework.boot.SpringApplication;
+import org.springframework.test.context.DynamicPropertyRegistry;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+/**
+ * Database for the test suites: the one given with -Dspring.datasource.url (plus username and
+ * password) when set, otherwise an embedded PostgreSQL started once per JVM.
+ */
+public final class TestDatabase {
+
+	private static EmbeddedPostgres embedded;
+
+	private TestDatabase() {
+	}
+
+	public static void register(DynamicPropertyRegistry registry) {
+		if (System.getProperty("spring.datasource.url") != null) {
+			return;
+		}
+		EmbeddedPostgres postgres = embedded();
+		registry.add("spring.datasource.url", () -> postgres.getJdbcUrl("postgres", "postgres"));
+		registry.add("spring.datasource.username", () -> "postgres");
+		registry.add("spring.datasource.password", () -> "postgres");
+	}
+
+	// Command-line form of register(), for suites that start the application themselves
+	public static String[] arguments() {
+		if (System.getProperty("spring.datasource.url") != null) {
+			return new String[0];
+		}
+		EmbeddedPostgres postgres = embedded();
+		return new String[] {
+				"--spring.datasource.url=" + postgres.getJdbcUrl("postgres", "postgres"),
+				"--spring.datasource.username=postgres",
+				"--spring.datasource.password=postgres"
+		};
+	}
+
+	private static synchronized EmbeddedPostgres embedded() {
+		if (embedded == null) {
+			try {
+				embedded = EmbeddedPostgres.start();
+			} catch (IOException e) {
+				throw new UncheckedIOException("Could not start embedded PostgreSQL; pass -Dspring.datasource.url instead", e);
+			}
+			// Spring Boot runs these handlers only after it has closed every application context.
+			// A JVM shutdown hook of our own would run alongside those closes, and jobs and pools
+			// of a closing context would then wait for connections from a database already gone.
+			SpringApplication.getShutdownHandlers().add(() -> {
+				try {
+					embedded.close();
+				} catch (IOException ignored) {
+					// JVM is exiting
+				}
+			});
+		}
+		return embedded;
+	}
+}
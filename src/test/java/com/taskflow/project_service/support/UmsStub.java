@@ -0,0 +1,146 @@
+package com.taskflow.project_service.support;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * In-process stand-in for ums-service with configurable latency and failure rate.
+ * <p>
+ * Every id is a known user whose email is {@code <id>@ums.test} (see {@link #emailOf}); emails
+ * in any other form resolve to a name-based id, except those starting with "unknown", which
+ * do not exist. Keycloak ids resolve to the user with the same id.
+ */
+public final class UmsStub implements AutoCloseable {
+
+	private static final ObjectMapper JSON = new ObjectMapper();
+
+	private final HttpServer server;
+	private final AtomicLong calls = new AtomicLong();
+	private volatile Duration latency = Duration.ZERO;
+	private volatile double failureRate;
+
+	private UmsStub(HttpServer server) {
+		this.server = server;
+	}
+
+	public static UmsStub start() {
+		try {
+			HttpServer server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 1000);
+			UmsStub stub = new UmsStub(server);
+			server.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+			server.createContext("/api/users", stub::handle);
+			server.start();
+			return stub;
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	public static String emailOf(UUID userId) {
+		return userId + "@ums.test";
+	}
+
+	public String url() {
+		return "http://127.0.0.1:" + server.getAddress().getPort();
+	}
+
+	public UmsStub latency(Duration latency) {
+		this.latency = latency;
+		return this;
+	}
+
+	// Share of requests answered with 503, between 0 and 1
+	public UmsStub failureRate(double failureRate) {
+		this.failureRate = failureRate;
+		return this;
+	}
+
+	public long calls() {
+		return calls.get();
+	}
+
+	@Override
+	public void close() {
+		server.stop(0);
+	}
+
+	private void handle(HttpExchange exchange) throws IOException {
+		calls.incrementAndGet();
+		try (exchange) {
+			if (!latency.isZero()) {
+				Thread.sleep(latency);
+			}
+			if (failureRate > 0 && ThreadLocalRandom.current().nextDouble() < failureRate) {
+				exchange.sendResponseHeaders(503, -1);
+				return;
+			}
+
+			String path = exchange.getRequestURI().getPath();
+			Object body;
+			if (path.equals("/api/users/batch")) {
+				body = read(exchange, new TypeReference<List<UUID>>() { }).stream().map(UmsStub::user).toList();
+			} else if (path.equals("/api/users/batch/by-email")) {
+				body = read(exchange, new TypeReference<List<String>>() { }).stream()
+						.map(UmsStub::userByEmail).filter(Objects::nonNull).toList();
+			} else if (path.equals("/api/users/by-email")) {
+				String query = exchange.getRequestURI().getRawQuery();
+				body = userByEmail(URLDecoder.decode(query.substring(query.indexOf('=') + 1), StandardCharsets.UTF_8));
+			} else if (path.startsWith("/api/users/by-keycloak-id/")) {
+				body = user(UUID.fromString(path.substring(path.lastIndexOf('/') + 1)));
+			} else {
+				body = user(UUID.fromString(path.substring(path.lastIndexOf('/') + 1)));
+			}
+
+			if (body == null) {
+				exchange.sendResponseHeaders(404, -1);
+				return;
+			}
+			byte[] bytes = JSON.writeValueAsBytes(body);
+			exchange.getResponseHeaders().add("Content-Type", "application/json");
+			exchange.sendResponseHeaders(200, bytes.length);
+			exchange.getResponseBody().write(bytes);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		} catch (IllegalArgumentException e) {
+			exchange.sendResponseHeaders(400, -1);
+		}
+	}
+
+	private static <T> T read(HttpExchange exchange, TypeReference<T> type) throws IOException {
+		return JSON.readValue(exchange.getRequestBody(), type);
+	}
+
+	private static Map<String, Object> user(UUID id) {
+		return Map.of("id", id, "name", "User " + id.toString().substring(0, 8), "email", emailOf(id), "isActive", true);
+	}
+
+	private static Map<String, Object> userByEmail(String email) {
+		if (email.startsWith("unknown")) {
+			return null;
+		}
+		String localPart = email.substring(0, Math.max(email.indexOf('@'), 0));
+		UUID id;
+		try {
+			id = UUID.fromString(localPart);
+		} catch (IllegalArgumentException e) {
+			id = UUID.nameUUIDFromBytes(email.getBytes(StandardCharsets.UTF_8));
+		}
+		return user(id);
+	}
+}